@@ -30,6 +30,7 @@
 import org.spongepowered.api.world.PortalAgentType;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
+import org.spongepowered.common.world.storage.UniqueIdTable;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -50,6 +51,8 @@ public interface WorldInfoBridge {
 
     Optional<UUID> bridge$getUniqueIdForIndex(int index);
 
+    UniqueIdTable bridge$getUniqueIdTable();
+
     UUID bridge$getAssignedId();
 
     @Nullable
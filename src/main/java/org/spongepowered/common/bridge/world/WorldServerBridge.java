@@ -42,6 +42,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseMetrics;
 import org.spongepowered.common.event.tracking.context.MultiBlockCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.SpongeProxyBlockAccess;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
@@ -139,6 +140,8 @@ public interface WorldServerBridge {
 
     SpongeProxyBlockAccess bridge$getProxyAccess();
 
+    PhaseMetrics bridge$getPhaseMetrics();
+
     SpongeChunkGenerator bridge$getSpongeGenerator();
 
     @Nullable
@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.world.chunk;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
@@ -43,7 +45,6 @@
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -53,9 +54,23 @@
 
 public interface ChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
+    /**
+     * Gets the tracked block positions below y 256, keyed by
+     * {@link org.spongepowered.common.util.Constants.Sponge#blockPosToShort}
+     * and mapped to the indices packed by {@link PlayerTracker#pack(int, int)}.
+     *
+     * @return The tracked positions
+     */
+    Short2LongMap bridge$getTrackedShortPlayerPositions();
 
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
+    /**
+     * Gets the tracked block positions from y 256 on, keyed by
+     * {@link org.spongepowered.common.util.Constants.Sponge#blockPosToInt}
+     * and mapped to the indices packed by {@link PlayerTracker#pack(int, int)}.
+     *
+     * @return The tracked positions
+     */
+    Int2LongMap bridge$getTrackedIntPlayerPositions();
 
     Optional<User> bridge$getBlockOwner(BlockPos pos);
 
@@ -74,9 +89,9 @@ public interface ChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
+    void bridge$setTrackedIntPlayerPositions(Int2LongMap trackedPlayerPositions);
 
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void bridge$setTrackedShortPlayerPositions(Short2LongMap trackedPlayerPositions);
 
     void bridge$setNeighbor(Direction direction, Chunk neighbor);
 
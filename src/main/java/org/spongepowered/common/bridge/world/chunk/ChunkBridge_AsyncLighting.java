@@ -25,8 +25,9 @@
 package org.spongepowered.common.bridge.world.chunk;
 
 import net.minecraft.world.EnumSkyBlock;
+import org.spongepowered.common.util.ConcurrentShortBitSet;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
 
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public interface ChunkBridge_AsyncLighting extends ChunkBridge {
@@ -37,5 +38,7 @@ public interface ChunkBridge_AsyncLighting extends ChunkBridge {
 
     void asyncLightingBridge$setLightUpdateTime(long time);
 
-    Set<Short> asyncLightingBridge$getQueuedLightingUpdates(EnumSkyBlock type);
+    ConcurrentShortBitSet asyncLightingBridge$getQueuedLightingUpdates(EnumSkyBlock type);
+
+    LightUpdateBatch asyncLightingBridge$getLightUpdateBatch();
 }
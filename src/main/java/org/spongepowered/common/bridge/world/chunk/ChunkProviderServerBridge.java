@@ -59,6 +59,10 @@ public interface ChunkProviderServerBridge {
     @Deprecated
     Long2ObjectMap<Chunk> accessor$getLoadedChunks();
 
+    // TODO Mixin 0.8
+    @Deprecated
+    IChunkLoader accessor$getChunkLoader();
+
     CompletableFuture<Boolean> bridge$doesChunkExistSync(Vector3i chunkCoords);
 
     boolean bridge$getForceChunkRequests();
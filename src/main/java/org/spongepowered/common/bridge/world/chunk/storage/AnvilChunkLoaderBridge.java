@@ -25,6 +25,7 @@
 package org.spongepowered.common.bridge.world.chunk.storage;
 
 import net.minecraft.world.World;
+import org.spongepowered.common.world.storage.ChunkSaveQueue;
 
 import java.nio.file.Path;
 
@@ -34,4 +35,6 @@ public interface AnvilChunkLoaderBridge {
     boolean bridge$chunkExists(World world, int x, int z);
 
     Path bridge$getWorldDir();
+
+    ChunkSaveQueue bridge$getSaveQueue();
 }
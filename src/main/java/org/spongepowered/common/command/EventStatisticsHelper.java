@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.EventStatistics;
+import org.spongepowered.common.event.ListenerHistogram;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Map;
+
+class EventStatisticsHelper {
+
+    static void writeStatistics(final File file) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            try (final JsonWriter writer = new JsonWriter(new FileWriter(file))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+
+                writer.name("listeners").beginArray();
+                for (final RegisteredListener<?> listener : EventStatistics.getListeners()) {
+                    writer.beginObject();
+                    writer.name("plugin").value(listener.getPlugin().getId());
+                    writer.name("eventType").value(listener.getEventType().toString());
+                    writer.name("order").value(listener.getOrder().name());
+                    writer.name("handle").value(listener.getHandle().getClass().getName());
+                    writeHistogram(writer, listener.getHistogram());
+                    writer.endObject();
+                }
+                writer.endArray();
+
+                writer.name("eventTypes").beginArray();
+                for (final Map.Entry<Class<?>, ListenerHistogram> entry : EventStatistics.getEventTypes().entrySet()) {
+                    writer.beginObject();
+                    writer.name("eventType").value(entry.getKey().getName());
+                    writeHistogram(writer, entry.getValue());
+                    writer.endObject();
+                }
+                writer.endArray();
+
+                writer.endObject();
+            }
+        } catch (Throwable throwable) {
+            SpongeImpl.getLogger().error("Could not save event statistics report to " + file, throwable);
+        }
+    }
+
+    private static void writeHistogram(final JsonWriter writer, final ListenerHistogram histogram) throws IOException {
+        writer.name("count").value(histogram.getCount());
+        writer.name("totalNanos").value(histogram.getTotalTime());
+        writer.name("averageNanos").value(histogram.getAverageTime());
+        writer.name("maxNanos").value(histogram.getMaxTime());
+        writer.name("p50Nanos").value(histogram.getPercentile(0.5));
+        writer.name("p99Nanos").value(histogram.getPercentile(0.99));
+        // Bucket i counts the invocations that took [2^(i-1), 2^i) nanoseconds
+        writer.name("buckets").beginArray();
+        final long[] buckets = histogram.getBuckets();
+        int last = buckets.length - 1;
+        while (last > 0 && buckets[last] == 0) {
+            last--;
+        }
+        for (int i = 0; i <= last; i++) {
+            writer.value(buckets[i]);
+        }
+        writer.endArray();
+    }
+
+}
@@ -54,6 +54,7 @@
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -94,9 +95,12 @@
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.bridge.world.DimensionTypeBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.category.MetricsCategory;
 import org.spongepowered.common.config.type.ConfigBase;
@@ -105,9 +109,17 @@
 import org.spongepowered.common.config.type.TrackerConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.entity.TrackedUserCache;
+import org.spongepowered.common.event.EventStatistics;
+import org.spongepowered.common.event.ListenerHistogram;
+import org.spongepowered.common.event.RegisteredListener;
 import org.spongepowered.common.event.SpongeEventManager;
+import org.spongepowered.common.event.tracking.PhaseMetrics;
 import org.spongepowered.common.mixin.core.world.WorldAccessor;
+import org.spongepowered.common.scheduler.PluginTaskQueue;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.lighting.AsyncLightingMetrics;
+import org.spongepowered.common.world.storage.ChunkSaveQueue;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -224,6 +236,8 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(createSpongeEventsCommand(), "events");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTPSCommand(), "tps");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
@@ -246,6 +260,8 @@ INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                 INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                 INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
                 INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                INDENT, title("scheduler"), LONG_INDENT, "Provides queue and timing data of asynchronous plugin tasks\n",
+                INDENT, title("events"), LONG_INDENT, "Records and reports invocation statistics of event listeners\n",
                 SpongeImplHooks.getAdditionalCommandDescriptions()))
             .arguments(firstParsing(nonFlagChildren,
                 flags().flag("-global", "g")
@@ -407,10 +423,54 @@ protected Text getChunksInfo(final WorldServer worldserver) {
                     return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(((WorldServerBridge) worldserver).bridge$getDimensionId()), NEWLINE_TEXT,
                         key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                         key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
+                        key("Pending chunk unloads: "), value(((WorldServerBridge) worldserver).bridge$getTimingsHandler().getPendingChunkUnloads()),
+                        NEWLINE_TEXT,
+                        key("Unloaded chunks: "), value(((WorldServerBridge) worldserver).bridge$getTimingsHandler().getChunkUnloads()), NEWLINE_TEXT,
                         key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                         key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                         key("Removed Entities:"), value(((WorldAccessor) worldserver).accessor$getUnloadedEntityList().size()), NEWLINE_TEXT,
-                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT
+                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT,
+                        getSaveInfo(worldserver),
+                        getLightingInfo(worldserver),
+                        getPhaseInfo(worldserver)
+                    );
+                }
+
+                protected Text getPhaseInfo(final WorldServer worldserver) {
+                    final List<PhaseMetrics.Entry> entries = ((WorldServerBridge) worldserver).bridge$getPhaseMetrics().getEntries();
+                    if (entries.isEmpty()) {
+                        return Text.EMPTY;
+                    }
+                    final Text.Builder builder = Text.builder();
+                    for (final PhaseMetrics.Entry entry : entries) {
+                        builder.append(key(entry.getState() + ": "), value(String.format("%d contexts, %d with captures, %.2fms (%.2fms unwinding)",
+                            entry.getContexts(), entry.getCaptures(), entry.getTotalMillis(), entry.getUnwindMillis())), NEWLINE_TEXT);
+                    }
+                    return builder.build();
+                }
+
+                protected Text getSaveInfo(final WorldServer worldserver) {
+                    final IChunkLoader chunkLoader = ((ChunkProviderServerBridge) worldserver.getChunkProvider()).accessor$getChunkLoader();
+                    if (!(chunkLoader instanceof AnvilChunkLoaderBridge)) {
+                        return Text.EMPTY;
+                    }
+                    final ChunkSaveQueue saveQueue = ((AnvilChunkLoaderBridge) chunkLoader).bridge$getSaveQueue();
+                    return Text.of(key("Chunk Save Backlog: "), value(saveQueue.getBacklog()), NEWLINE_TEXT,
+                        key("Chunk Saves: "), value(String.format("%d written, %d coalesced, %d failed, %.2fms avg",
+                            saveQueue.getWritten(), saveQueue.getCoalesced(), saveQueue.getFailed(), saveQueue.getAverageWriteMillis())), NEWLINE_TEXT
+                    );
+                }
+
+                protected Text getLightingInfo(final WorldServer worldserver) {
+                    if (!(worldserver instanceof WorldServerBridge_AsyncLighting)) {
+                        return Text.EMPTY;
+                    }
+                    final AsyncLightingMetrics metrics = ((WorldServerBridge_AsyncLighting) worldserver).asyncLightingBridge$getLightingMetrics();
+                    return Text.of(key("Queued Light Updates: "), value(metrics.getQueued()), NEWLINE_TEXT,
+                        key("Light Updates: "), value(metrics.getProcessed() + " in " + metrics.getBatches() + " batches, "
+                            + metrics.getProcessedInline() + " inline"), NEWLINE_TEXT,
+                        key("Light Update Latency: "), value(String.format("%.2fms avg, %.2fms max",
+                            metrics.getAverageLatencyMillis(), metrics.getMaxLatencyMillis())), NEWLINE_TEXT
                     );
                 }
             })
@@ -546,8 +606,8 @@ private static CommandSpec createSpongeBlockInfoCommand() {
                 final IBlockState blockState = worldServer.getBlockState(rayTraceResult.getBlockPos());
                 final BlockState spongeState = (BlockState) blockState;
                 src.sendMessage(Text.of(TextColors.DARK_GREEN, TextStyles.BOLD, "Block Type: ", TextColors.BLUE, TextStyles.RESET, spongeState.getId()));
-                src.sendMessage(Text.of(TextColors.DARK_GREEN, TextStyles.BOLD, "Block Owner: ", TextColors.BLUE, TextStyles.RESET, mixinChunk.bridge$getBlockOwner(rayTraceResult.getBlockPos())));
-                src.sendMessage(Text.of(TextColors.DARK_GREEN, TextStyles.BOLD, "Block Notifier: ", TextColors.BLUE, TextStyles.RESET, mixinChunk.bridge$getBlockNotifier(rayTraceResult.getBlockPos())));
+                src.sendMessage(Text.of(TextColors.DARK_GREEN, TextStyles.BOLD, "Block Owner: ", TextColors.BLUE, TextStyles.RESET, mixinChunk.bridge$getBlockOwnerUUID(rayTraceResult.getBlockPos()).flatMap(TrackedUserCache::get)));
+                src.sendMessage(Text.of(TextColors.DARK_GREEN, TextStyles.BOLD, "Block Notifier: ", TextColors.BLUE, TextStyles.RESET, mixinChunk.bridge$getBlockNotifierUUID(rayTraceResult.getBlockPos()).flatMap(TrackedUserCache::get)));
                 return CommandResult.success();
             })
             .build();
@@ -856,6 +916,91 @@ private static CommandSpec createSpongeTPSCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeSchedulerCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.scheduler")
+            .description(Text.of("Provides queue and timing data of asynchronous plugin tasks."))
+            .executor((src, args) -> {
+                final List<PluginTaskQueue> queues = new ArrayList<>(SpongeImpl.getScheduler().getAsyncTaskQueues());
+                if (queues.isEmpty()) {
+                    src.sendMessage(Text.of("No asynchronous tasks have been run yet."));
+                    return CommandResult.empty();
+                }
+                queues.sort(Comparator.comparing(queue -> queue.getPlugin().getId()));
+                for (final PluginTaskQueue queue : queues) {
+                    src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, queue.getPlugin().getId(), TextColors.RESET,
+                        "] Queued: ", TextColors.LIGHT_PURPLE, queue.getQueuedTasks(), TextColors.RESET,
+                        ", Running: ", TextColors.LIGHT_PURPLE, queue.getRunningTasks(), TextColors.RESET,
+                        ", Completed: ", TextColors.LIGHT_PURPLE, queue.getCompletedTasks(), TextColors.RESET,
+                        ", Wait: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(queue.getAverageWaitTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, " (max ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(queue.getMaxWaitTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, "), Run: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(queue.getAverageRunTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, " (max ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(queue.getMaxRunTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, ")"));
+                }
+                return CommandResult.successCount(queues.size());
+            })
+            .build();
+    }
+
+    private static CommandCallable createSpongeEventsCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.events")
+            .description(Text.of("Records and reports invocation statistics of event listeners."))
+            .child(CommandSpec.builder()
+                .executor((src, args) -> {
+                    EventStatistics.reset();
+                    EventStatistics.ENABLED = true;
+                    src.sendMessage(Text.of("Enabled event statistics & reset"));
+                    return CommandResult.success();
+                })
+                .build(), "on")
+            .child(CommandSpec.builder()
+                .executor((src, args) -> {
+                    EventStatistics.ENABLED = false;
+                    src.sendMessage(Text.of("Disabled event statistics"));
+                    return CommandResult.success();
+                })
+                .build(), "off")
+            .child(CommandSpec.builder()
+                .executor((src, args) -> {
+                    EventStatistics.reset();
+                    src.sendMessage(Text.of("Event statistics reset"));
+                    return CommandResult.success();
+                })
+                .build(), "reset")
+            .child(CommandSpec.builder()
+                .executor((src, args) -> {
+                    final File file = new File(new File(new File("."), "dumps"),
+                        "event-statistics-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".json");
+                    src.sendMessage(Text.of("Writing event statistics to: ", file));
+                    EventStatisticsHelper.writeStatistics(file);
+                    return CommandResult.success();
+                })
+                .build(), "dump")
+            .executor((src, args) -> {
+                final List<RegisteredListener<?>> listeners = new ArrayList<>(EventStatistics.getListeners());
+                if (listeners.isEmpty()) {
+                    src.sendMessage(Text.of(EventStatistics.ENABLED ? "No listeners have been invoked yet."
+                        : "Please enable event statistics by typing /sponge events on"));
+                    return CommandResult.empty();
+                }
+                listeners.sort(Comparator.comparingLong((RegisteredListener<?> listener) -> listener.getHistogram().getTotalTime()).reversed());
+                src.sendMessage(Text.of("Top listeners by total time:"));
+                for (final RegisteredListener<?> listener : listeners.subList(0, Math.min(10, listeners.size()))) {
+                    final ListenerHistogram histogram = listener.getHistogram();
+                    src.sendMessage(Text.of(INDENT, "[", TextColors.DARK_GREEN, listener.getPlugin().getId(), TextColors.RESET, "] ",
+                        listener.getHandle().getClass().getSimpleName(), " (", listener.getEventType().getType().getSimpleName(), ") Calls: ",
+                        TextColors.LIGHT_PURPLE, histogram.getCount(), TextColors.RESET,
+                        ", Total: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(histogram.getTotalTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, ", p99: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(histogram.getPercentile(0.99) * 1.0e-6d), "ms",
+                        TextColors.RESET, ", Max: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(histogram.getMaxTime() * 1.0e-6d), "ms"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
     private static void printWorldTickTime(final CommandSource src, final World world) {
         final long[] worldTickTimes = ((MinecraftServerBridge) SpongeImpl.getServer()).bridge$getWorldTickTimes(((WorldServerBridge) world).bridge$getDimensionId());
         final double worldMeanTickTime = mean(worldTickTimes) * 1.0e-6d;
@@ -36,6 +36,12 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous lighting updates. (Default: 2)")
     private int numAsyncThreads = 2;
 
+    @Setting(value = "max-queued-updates", comment = "The maximum amount of light checks which may be queued for asynchronous processing\n"
+            + "per world. Once reached, further light checks are run on the main thread until the queue\n"
+            + "drains, which keeps lighting from falling minutes behind during large block edits.\n"
+            + "Set to 0 for no limit. (Default: 65536)")
+    private int maxQueuedUpdates = 65536;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -43,4 +49,8 @@ public boolean isEnabled() {
     public int getNumThreads() {
         return this.numAsyncThreads;
     }
+
+    public int getMaxQueuedUpdates() {
+        return this.maxQueuedUpdates;
+    }
 }
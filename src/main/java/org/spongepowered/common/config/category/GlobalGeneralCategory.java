@@ -33,6 +33,10 @@ public class GlobalGeneralCategory extends GeneralCategory {
     @Setting(value = "file-io-thread-sleep", comment = "If 'true', sleeping between chunk saves will be enabled, beware of memory issues.")
     private boolean fileIOThreadSleep = false;
 
+    @Setting(value = "file-io-threads", comment = "The amount of threads used to compress and write chunks to their region files.\n"
+                                                + "Chunks of different region files are written in parallel. (Default: 2)")
+    private int fileIOThreads = 2;
+
     public GlobalGeneralCategory() {
         
     }
@@ -40,4 +44,8 @@ public GlobalGeneralCategory() {
     public boolean getFileIOThreadSleep() {
         return this.fileIOThreadSleep;
     }
+
+    public int getFileIOThreads() {
+        return this.fileIOThreads;
+    }
 }
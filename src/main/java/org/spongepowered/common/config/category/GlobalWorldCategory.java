@@ -51,6 +51,14 @@ public class GlobalWorldCategory extends WorldCategory {
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     private List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "chunk-pregen-lookahead-threads", comment = "The number of threads used by chunk pre-generation to look up which chunks already exist \n"
+                                                               + "on disk ahead of the main thread, so that only chunks which need generating cost tick time. (Default: 2) \n"
+                                                               + "Set to 0 to perform these lookups on the main thread.")
+    private int chunkPreGenLookaheadThreads = 2;
+
+    @Setting(value = "chunk-pregen-lookahead", comment = "The number of chunk pre-generation steps that may be looked up ahead of the main thread. (Default: 512)")
+    private int chunkPreGenLookahead = 512;
+
     public GlobalWorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("0d0c4ca0-4ff1-11e4-916c-0800200c9a66")); // ComputerCraft FakePlayer
@@ -79,4 +87,12 @@ public int getGameProfileQueryTaskInterval() {
     public List<UUID> getInvalidLookupUuids() {
         return this.invalidLookupUuids;
     }
+
+    public int getChunkPreGenLookaheadThreads() {
+        return this.chunkPreGenLookaheadThreads;
+    }
+
+    public int getChunkPreGenLookahead() {
+        return Math.max(1, this.chunkPreGenLookahead);
+    }
 }
\ No newline at end of file
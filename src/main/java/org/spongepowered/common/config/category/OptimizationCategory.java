@@ -119,6 +119,12 @@ public class OptimizationCategory extends ConfigCategory {
             "suppress the exceptions printing out in the log.")
     private boolean disableFailingAdvancementDeserialization = true;
 
+    @Setting(value = "parallel-block-worker-reduce", comment = "If 'true', block worker reductions over large loaded regions of a world\n"
+                                                           + "are split up by chunk and run in parallel while the server thread waits.\n"
+                                                           + "Reducers passed in by plugins then have to be safe to call from several\n"
+                                                           + "threads at once, which is why this is 'false' by default.")
+    private boolean parallelBlockWorkerReduce = false;
+
     public OptimizationCategory() {
         try {
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
@@ -203,4 +209,8 @@ public boolean disableFailingAdvancementDeserialization() {
         return this.disableFailingAdvancementDeserialization;
     }
 
+    public boolean useParallelBlockWorkerReduce() {
+        return this.parallelBlockWorkerReduce;
+    }
+
 }
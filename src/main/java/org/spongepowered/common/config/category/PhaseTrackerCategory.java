@@ -88,6 +88,19 @@ public class PhaseTrackerCategory extends ConfigCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     private int maxRunawayCount = 3;
 
+    @Setting(value = "lite-tracking", comment = "If 'true', entity, tile entity and block ticks will skip capturing \n"
+                                              + "block changes when nothing listens to ChangeBlockEvent, and skip \n"
+                                              + "capturing entity spawns when nothing listens to SpawnEntityEvent. \n"
+                                              + "This reduces the cost of tracking on servers where few plugins \n"
+                                              + "observe those events, at the expense of ownership tracking for \n"
+                                              + "the skipped changes.")
+    private boolean liteTracking = false;
+
+    @Setting(value = "phase-metrics", comment = "If 'true', the number of contexts, contexts with captures and the time \n"
+                                              + "spent per tick phase are recorded for each world and shown in \n"
+                                              + "'/sponge chunks'. Note that this measures every tick with System.nanoTime.")
+    private boolean phaseMetrics = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -169,6 +182,14 @@ public int getMaximumRunawayCount() {
         return this.maxRunawayCount;
     }
 
+    public boolean isLiteTracking() {
+        return this.liteTracking;
+    }
+
+    public boolean isPhaseMetrics() {
+        return this.phaseMetrics;
+    }
+
     public boolean isReportNullSourceBlocks() {
         return reportNullSourceBlocks;
     }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-executor-type", comment = "The type of thread pool that runs asynchronous plugin tasks. \n"
+                                                    + "Supported values are: \n"
+                                                    + "'fixed' - A fixed amount of threads, set by 'async-max-threads'. \n"
+                                                    + "'fork-join' - A work-stealing pool with 'async-max-threads' as parallelism. \n"
+                                                    + "'virtual' - One virtual thread per task, only when the JVM supports it. \n"
+                                                    + "Falls back to 'fixed' if the JVM doesn't support virtual threads. \n"
+                                                    + "'cached' - An unbounded amount of threads, the default. \n"
+                                                    + "Sponge's own asynchronous work always runs on a separate cached pool.")
+    private String executorType = "cached";
+
+    @Setting(value = "async-max-threads", comment = "The maximum amount of threads running asynchronous plugin tasks. \n"
+                                                  + "A value of 0 or lower uses the amount of available processors, \n"
+                                                  + "with a minimum of 4. Ignored by the 'virtual' and 'cached' types.")
+    private int maxThreads = 0;
+
+    @Setting(value = "max-concurrent-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks of a single plugin \n"
+                                                                + "that may run at the same time, additional tasks are queued \n"
+                                                                + "until one completes. This prevents a single misbehaving plugin \n"
+                                                                + "from starving the tasks of other plugins. A value of 0 or \n"
+                                                                + "lower uses half of 'async-max-threads'. Values above \n"
+                                                                + "'async-max-threads' are not allowed. The 'virtual' and 'cached' \n"
+                                                                + "types only apply a limit set here explicitly.")
+    private int maxConcurrentTasksPerPlugin = 0;
+
+    public String getExecutorType() {
+        return this.executorType;
+    }
+
+    public int getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    public int getMaxConcurrentTasksPerPlugin() {
+        return this.maxConcurrentTasksPerPlugin;
+    }
+}
@@ -55,6 +55,20 @@
 
     boolean supports(DataHolder dataHolder);
 
+    /**
+     * Checks if a {@link DataHolder} of the provided runtime class could
+     * ever be supported by this {@link DataProcessor}. Returning false
+     * allows delegates to skip this processor for every holder of that
+     * class, so this must only return false when {@link #supports(DataHolder)}
+     * is always false for such holders.
+     *
+     * @param holderType The runtime class of the holder
+     * @return False if no holder of the class can be supported
+     */
+    default boolean mightSupport(final Class<?> holderType) {
+        return true;
+    }
+
     boolean supports(EntityType entityType);
 
     /**
@@ -26,9 +26,12 @@
 
 import static org.spongepowered.common.util.ReflectionUtil.createUnsafeInstance;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
@@ -37,8 +40,11 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
 
 public final class ImmutableDataCachingUtil {
 
@@ -48,14 +54,14 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Cache<ManipulatorKey, ImmutableDataManipulator<?, ?>> manipulatorCache = Caffeine.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
-        .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
-        .concurrencyLevel(4)
+    private static final Cache<ValueKey, ImmutableValue<?>> valueCache = Caffeine.newBuilder()
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
     /**
@@ -75,15 +81,13 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
         // We can't really use the generic typing here because it's complicated...
         try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
+            return (T) ImmutableDataCachingUtil.manipulatorCache.get(new ManipulatorKey(immutableClass, args), key -> {
                     try {
                         return createUnsafeInstance(immutableClass, args);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
+                        SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
                                                      + Arrays.toString(args), e);
                     }
                     throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
@@ -97,33 +101,121 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
-        try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
-                    try {
-                        if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
-                        }
-                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
+        return (T) ImmutableDataCachingUtil.valueCache.get(new ValueKey(valueClass, usedKey, arg), key -> {
+                try {
+                    if (extraArgs == null || extraArgs.length == 0) {
+                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
                     }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
-            });
-        } catch (ExecutionException e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
+                    return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
+                } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                    SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getName(), e);
+                }
+                throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
+        });
+    }
+
+    public static CacheStats getManipulatorCacheStats() {
+        return ImmutableDataCachingUtil.manipulatorCache.stats();
+    }
+
+    public static CacheStats getValueCacheStats() {
+        return ImmutableDataCachingUtil.valueCache.stats();
+    }
+
+    /**
+     * Copies an argument for use in a cache key, so that later changes to
+     * a collection or array passed by the caller can't change the hash of
+     * an entry that is already cached.
+     */
+    @Nullable
+    private static Object snapshot(@Nullable final Object arg) {
+        if (arg instanceof Object[]) {
+            final Object[] array = ((Object[]) arg).clone();
+            for (int i = 0; i < array.length; i++) {
+                array[i] = snapshot(array[i]);
+            }
+            return array;
+        }
+        if (arg instanceof List) {
+            return ImmutableList.copyOf((List<?>) arg);
         }
+        if (arg instanceof Set) {
+            return ImmutableSet.copyOf((Set<?>) arg);
+        }
+        if (arg instanceof Map) {
+            return ImmutableMap.copyOf((Map<?, ?>) arg);
+        }
+        return arg;
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    /**
+     * Identifies a cached manipulator by its class and a snapshot of its
+     * constructor arguments, compared by equality.
+     */
+    private static final class ManipulatorKey {
+
+        private final Class<?> type;
+        private final Object[] args;
+        private final int hash;
+
+        ManipulatorKey(final Class<?> type, final Object[] args) {
+            this.type = type;
+            this.args = (Object[]) snapshot(args);
+            this.hash = 31 * System.identityHashCode(type) + Arrays.deepHashCode(this.args);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object obj) {
+            if (this == obj) {
+                return true;
             }
+            if (!(obj instanceof ManipulatorKey)) {
+                return false;
+            }
+            final ManipulatorKey other = (ManipulatorKey) obj;
+            return this.hash == other.hash && this.type == other.type && Arrays.deepEquals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Identifies a cached value by its class, the identity of its key and
+     * a snapshot of its element, compared by equality.
+     */
+    private static final class ValueKey {
+
+        private final Class<?> type;
+        private final Key<?> key;
+        private final Object element;
+        private final int hash;
+
+        ValueKey(final Class<?> type, final Key<?> key, final Object element) {
+            this.type = type;
+            this.key = key;
+            this.element = snapshot(element);
+            this.hash = (31 * System.identityHashCode(type) + System.identityHashCode(key)) * 31 + this.element.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ValueKey)) {
+                return false;
+            }
+            final ValueKey other = (ValueKey) obj;
+            return this.hash == other.hash && this.type == other.type && this.key == other.key
+                   && this.element.getClass() == other.element.getClass() && this.element.equals(other.element);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
         }
-        return builder.toString();
     }
 }
@@ -36,6 +36,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.NBTTagCompound;
 import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.Sponge;
@@ -48,10 +49,12 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.persistence.NbtTranslator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,6 +75,10 @@ public class MemoryDataView implements DataView {
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
+    // Backing compound whose tags are translated into the map on first access,
+    // keyed by the view key of every tag that has not been translated yet
+    @Nullable private NBTTagCompound lazyCompound;
+    @Nullable private Map<String, String> lazyKeys;
 
     MemoryDataView(DataView.SafetyMode safety) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
@@ -89,6 +96,64 @@ private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safe
         this.safety = checkNotNull(safety, "Safety mode");
     }
 
+    /**
+     * Backs this view by the provided compound. Its tags are only translated
+     * when their keys are first accessed, and are copied straight back by the
+     * {@link NbtTranslator} as long as nothing was changed. The compound must
+     * not be modified afterwards.
+     *
+     * @param compound The compound to back this view with
+     */
+    public void setLazyCompound(final NBTTagCompound compound) {
+        checkState(this.map.isEmpty() && this.lazyCompound == null, "Only an empty view can be backed by a compound");
+        final Set<String> nbtKeys = compound.getKeySet();
+        if (nbtKeys.isEmpty()) {
+            return;
+        }
+        this.lazyCompound = compound;
+        this.lazyKeys = new HashMap<>(nbtKeys.size() * 2);
+        for (final String nbtKey : nbtKeys) {
+            this.lazyKeys.put(NbtTranslator.getViewKey(nbtKey), nbtKey);
+        }
+    }
+
+    /**
+     * Gets the compound backing this view if none of its tags were changed
+     * and nothing else was added.
+     *
+     * @return The untouched backing compound, or null
+     */
+    @Nullable
+    public NBTTagCompound getUntouchedCompound() {
+        if (this.lazyCompound != null && this.map.isEmpty() && this.lazyKeys.size() == this.lazyCompound.getKeySet().size()) {
+            return this.lazyCompound;
+        }
+        return null;
+    }
+
+    private void materialize(final String key) {
+        if (this.lazyKeys != null) {
+            final String nbtKey = this.lazyKeys.remove(key);
+            if (nbtKey != null) {
+                NbtTranslator.getInstance().addLazily(this.lazyCompound.getTag(nbtKey), nbtKey, this);
+            }
+        }
+    }
+
+    private void materializeAll() {
+        if (this.lazyKeys != null) {
+            for (final String key : new ArrayList<>(this.lazyKeys.keySet())) {
+                this.materialize(key);
+            }
+        }
+    }
+
+    private void discard(final String key) {
+        if (this.lazyKeys != null) {
+            this.lazyKeys.remove(key);
+        }
+    }
+
     @Override
     public DataContainer getContainer() {
         return this.container;
@@ -114,9 +179,17 @@ public Optional<DataView> getParent() {
     public Set<DataQuery> getKeys(boolean deep) {
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
+        if (deep) {
+            this.materializeAll();
+        }
         for (Map.Entry<String, Object> entry : this.map.entrySet()) {
             builder.add(of(entry.getKey()));
         }
+        if (this.lazyKeys != null) {
+            for (String key : this.lazyKeys.keySet()) {
+                builder.add(of(key));
+            }
+        }
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
@@ -150,7 +223,7 @@ public final boolean contains(DataQuery path) {
 
         String key = queryParts.get(0);
         if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
+            return this.map.containsKey(key) || this.lazyKeys != null && this.lazyKeys.containsKey(key);
         }
         Optional<DataView> subViewOptional = this.getUnsafeView(key);
         return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
@@ -188,6 +261,7 @@ public Optional<Object> get(DataQuery path) {
         }
 
         String key = queryParts.get(0);
+        this.materialize(key);
         if (sz == 1) {
             final Object object = this.map.get(key);
             if (object == null) {
@@ -245,6 +319,7 @@ public DataView set(DataQuery path, Object value) {
         List<String> parts = path.getParts();
         String key = parts.get(0);
         if (parts.size() > 1) {
+            this.materialize(key);
             DataQuery subQuery = of(key);
             Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
             DataView subView;
@@ -257,7 +332,12 @@ public DataView set(DataQuery path, Object value) {
             subView.set(path.popFirst(), value);
             return this;
         }
-        if (value instanceof DataView) {
+        this.discard(key);
+        if (value instanceof MemoryDataView && ((MemoryDataView) value).getUntouchedCompound() != null) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            // share the untranslated compound rather than copying every tag over
+            ((MemoryDataView) this.createView(path)).setLazyCompound(((MemoryDataView) value).getUntouchedCompound());
+        } else if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
@@ -424,6 +504,7 @@ public DataView remove(DataQuery path) {
             DataView subView = subViewOptional.get();
             subView.remove(path.popFirst());
         } else {
+            this.discard(parts.get(0));
             this.map.remove(parts.get(0));
         }
         return this;
@@ -442,11 +523,13 @@ public DataView createView(DataQuery path) {
         DataQuery keyQuery = of(key);
 
         if (sz == 1) {
+            this.discard(key);
             DataView result = new MemoryDataView(this, keyQuery, this.safety);
             this.map.put(key, result);
             return result;
         }
         DataQuery subQuery = path.popFirst();
+        this.materialize(key);
         DataView subView = (DataView) this.map.get(key);
         if (subView == null) {
             subView = new MemoryDataView(this.parent, keyQuery, this.safety);
@@ -522,6 +605,7 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
     }
 
     private Optional<DataView> getUnsafeView(String path) {
+        this.materialize(path);
         final Object object = this.map.get(path);
         if (!(object instanceof DataView)) {
             return Optional.empty();
@@ -825,7 +909,7 @@ public DataContainer copy(SafetyMode safety) {
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return this.map.isEmpty() && (this.lazyKeys == null || this.lazyKeys.isEmpty());
     }
 
     @Override
@@ -835,6 +919,7 @@ public SafetyMode getSafetyMode() {
 
     @Override
     public int hashCode() {
+        this.materializeAll();
         return Objects.hashCode(this.map, this.path);
     }
 
@@ -847,6 +932,8 @@ public boolean equals(@Nullable Object obj) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
+        this.materializeAll();
+        other.materializeAll();
 
         return Objects.equal(this.map.entrySet(), other.map.entrySet())
                && Objects.equal(this.path, other.path);
@@ -859,6 +946,7 @@ public String toString() {
             helper.add("path", this.path);
         }
         helper.add("safety", this.safety.name());
+        this.materializeAll();
         return helper.add("map", this.map).toString();
     }
 }
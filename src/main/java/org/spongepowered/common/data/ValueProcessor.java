@@ -139,6 +139,20 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if a {@link ValueContainer} of the provided runtime class could
+     * ever be supported by this {@link ValueProcessor}. Returning false
+     * allows delegates to skip this processor for every container of that
+     * class, so this must only return false when {@link #supports(ValueContainer)}
+     * is always false for such containers.
+     *
+     * @param containerType The runtime class of the container
+     * @return False if no container of the class can be supported
+     */
+    default boolean mightSupport(final Class<?> containerType) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
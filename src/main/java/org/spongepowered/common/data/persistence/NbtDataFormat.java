@@ -33,10 +33,10 @@
 import org.spongepowered.common.SpongeCatalogType;
 
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 
 public class NbtDataFormat extends SpongeCatalogType implements DataFormat {
 
@@ -55,26 +55,17 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
         }
         try {
             NBTTagCompound tag = CompressedStreamTools.read(dis);
-            return NbtTranslator.getInstance().translateFrom(tag);
+            return NbtTranslator.getInstance().translateLazily(tag);
         } finally {
             dis.close();
         }
     }
 
     @Override
-    @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        NBTTagCompound tag = NbtTranslator.getInstance().translateData(data);
-        DataOutputStream dos;
-        if (output instanceof DataOutputStream) {
-            dos = (DataOutputStream) output;
-        } else {
-            dos = new DataOutputStream(output);
-        }
-        try {
-            CompressedStreamTools.write(tag, dos);
-        } finally {
-            dos.close();
+        // Stream the view out tag by tag instead of translating it to a compound first
+        try (NbtStreamWriter writer = new NbtStreamWriter(Channels.newChannel(output))) {
+            writer.writeView("", data);
         }
     }
 
@@ -0,0 +1,350 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagLongArray;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.common.util.Constants;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads only selected paths out of a binary NBT stream.
+ *
+ * <p>Tags which are not on a requested path are skipped over in the stream
+ * without being materialized, so reading, for example, the tile entities of
+ * a stored chunk never builds its block sections.</p>
+ *
+ * <p>Marker paths keep the key and type of a tag, but none of its contents,
+ * which allows checking for the existence of large tags without reading
+ * them. A path that is also requested in full is read in full.</p>
+ *
+ * <p>Projections are immutable and may be shared between threads.</p>
+ */
+public final class NbtProjection {
+
+    // Same limit as NBTTagCompound#read
+    static final int MAX_DEPTH = 512;
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a projection which reads the given paths in full.
+     *
+     * @param paths The paths to read
+     */
+    public NbtProjection(final Set<DataQuery> paths) {
+        this(paths, Collections.emptySet());
+    }
+
+    /**
+     * Creates a projection which reads the given paths in full and keeps
+     * only the key and type of the tags at the given marker paths.
+     *
+     * @param paths The paths to read
+     * @param markers The paths to mark
+     */
+    public NbtProjection(final Set<DataQuery> paths, final Set<DataQuery> markers) {
+        checkNotNull(paths, "paths");
+        checkNotNull(markers, "markers");
+        for (final DataQuery marker : markers) {
+            this.getOrCreate(marker).marker = true;
+        }
+        for (final DataQuery path : paths) {
+            this.getOrCreate(path).included = true;
+        }
+    }
+
+    private Node getOrCreate(final DataQuery path) {
+        checkArgument(!path.getParts().isEmpty(), "path cannot be empty");
+        Node node = this.root;
+        for (final String part : path.getParts()) {
+            node = node.children.computeIfAbsent(part, key -> new Node());
+        }
+        return node;
+    }
+
+    /**
+     * Gets whether the tag at the given path is read in full, either because
+     * the path itself or one of its parents was requested.
+     *
+     * @param path The path
+     * @return True if the path is read in full
+     */
+    public boolean isIncluded(final DataQuery path) {
+        Node node = this.root;
+        for (final String part : path.getParts()) {
+            node = node.children.get(part);
+            if (node == null) {
+                return false;
+            }
+            if (node.included) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads a named root compound from the input, like
+     * {@link net.minecraft.nbt.CompressedStreamTools#read(java.io.DataInputStream)},
+     * keeping only the projected paths.
+     *
+     * @param input The input
+     * @return The projected compound
+     * @throws IOException If the input could not be read or the root tag
+     *     isn't a compound
+     */
+    public NBTTagCompound read(final DataInput input) throws IOException {
+        final byte type = input.readByte();
+        if (type != Constants.NBT.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+        final NBTTagCompound compound = new NBTTagCompound();
+        readCompound(input, this.root, compound, 0);
+        return compound;
+    }
+
+    private static void readCompound(final DataInput input, final Node node, final NBTTagCompound compound, final int depth) throws IOException {
+        checkDepth(depth);
+        byte type;
+        while ((type = input.readByte()) != Constants.NBT.TAG_END) {
+            final String key = input.readUTF();
+            final Node child = node.children.get(key);
+            if (child == null) {
+                skipTag(input, type, depth + 1);
+            } else if (child.included) {
+                compound.setTag(key, readTag(input, type, depth + 1));
+            } else if (type == Constants.NBT.TAG_COMPOUND && !child.children.isEmpty()) {
+                final NBTTagCompound inner = new NBTTagCompound();
+                readCompound(input, child, inner, depth + 1);
+                if (!inner.isEmpty() || child.marker) {
+                    compound.setTag(key, inner);
+                }
+            } else {
+                skipTag(input, type, depth + 1);
+                if (child.marker) {
+                    compound.setTag(key, createEmpty(type));
+                }
+            }
+        }
+    }
+
+    private static NBTBase readTag(final DataInput input, final byte type, final int depth) throws IOException {
+        checkDepth(depth);
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                return new NBTTagByte(input.readByte());
+            case Constants.NBT.TAG_SHORT:
+                return new NBTTagShort(input.readShort());
+            case Constants.NBT.TAG_INT:
+                return new NBTTagInt(input.readInt());
+            case Constants.NBT.TAG_LONG:
+                return new NBTTagLong(input.readLong());
+            case Constants.NBT.TAG_FLOAT:
+                return new NBTTagFloat(input.readFloat());
+            case Constants.NBT.TAG_DOUBLE:
+                return new NBTTagDouble(input.readDouble());
+            case Constants.NBT.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[readLength(input)];
+                input.readFully(array);
+                return new NBTTagByteArray(array);
+            }
+            case Constants.NBT.TAG_STRING:
+                return new NBTTagString(input.readUTF());
+            case Constants.NBT.TAG_LIST: {
+                final byte elementType = input.readByte();
+                final int count = readLength(input);
+                final NBTTagList list = new NBTTagList();
+                for (int i = 0; i < count; i++) {
+                    list.appendTag(readTag(input, elementType, depth + 1));
+                }
+                return list;
+            }
+            case Constants.NBT.TAG_COMPOUND: {
+                final NBTTagCompound compound = new NBTTagCompound();
+                byte innerType;
+                while ((innerType = input.readByte()) != Constants.NBT.TAG_END) {
+                    final String key = input.readUTF();
+                    compound.setTag(key, readTag(input, innerType, depth + 1));
+                }
+                return compound;
+            }
+            case Constants.NBT.TAG_INT_ARRAY: {
+                final int[] array = new int[readLength(input)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return new NBTTagIntArray(array);
+            }
+            case Constants.NBT.TAG_LONG_ARRAY: {
+                final long[] array = new long[readLength(input)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readLong();
+                }
+                return new NBTTagLongArray(array);
+            }
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    static void skipTag(final DataInput input, final byte type, final int depth) throws IOException {
+        checkDepth(depth);
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                skipFully(input, Byte.BYTES);
+                break;
+            case Constants.NBT.TAG_SHORT:
+                skipFully(input, Short.BYTES);
+                break;
+            case Constants.NBT.TAG_INT:
+            case Constants.NBT.TAG_FLOAT:
+                skipFully(input, Integer.BYTES);
+                break;
+            case Constants.NBT.TAG_LONG:
+            case Constants.NBT.TAG_DOUBLE:
+                skipFully(input, Long.BYTES);
+                break;
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                skipFully(input, readLength(input));
+                break;
+            case Constants.NBT.TAG_STRING:
+                skipFully(input, input.readUnsignedShort());
+                break;
+            case Constants.NBT.TAG_LIST: {
+                final byte elementType = input.readByte();
+                final int count = readLength(input);
+                for (int i = 0; i < count; i++) {
+                    skipTag(input, elementType, depth + 1);
+                }
+                break;
+            }
+            case Constants.NBT.TAG_COMPOUND: {
+                byte innerType;
+                while ((innerType = input.readByte()) != Constants.NBT.TAG_END) {
+                    skipFully(input, input.readUnsignedShort());
+                    skipTag(input, innerType, depth + 1);
+                }
+                break;
+            }
+            case Constants.NBT.TAG_INT_ARRAY:
+                skipFully(input, (long) readLength(input) * Integer.BYTES);
+                break;
+            case Constants.NBT.TAG_LONG_ARRAY:
+                skipFully(input, (long) readLength(input) * Long.BYTES);
+                break;
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static NBTBase createEmpty(final byte type) throws IOException {
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                return new NBTTagByte((byte) 0);
+            case Constants.NBT.TAG_SHORT:
+                return new NBTTagShort((short) 0);
+            case Constants.NBT.TAG_INT:
+                return new NBTTagInt(0);
+            case Constants.NBT.TAG_LONG:
+                return new NBTTagLong(0);
+            case Constants.NBT.TAG_FLOAT:
+                return new NBTTagFloat(0);
+            case Constants.NBT.TAG_DOUBLE:
+                return new NBTTagDouble(0);
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                return new NBTTagByteArray(new byte[0]);
+            case Constants.NBT.TAG_STRING:
+                return new NBTTagString("");
+            case Constants.NBT.TAG_LIST:
+                return new NBTTagList();
+            case Constants.NBT.TAG_COMPOUND:
+                return new NBTTagCompound();
+            case Constants.NBT.TAG_INT_ARRAY:
+                return new NBTTagIntArray(new int[0]);
+            case Constants.NBT.TAG_LONG_ARRAY:
+                return new NBTTagLongArray(new long[0]);
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    static int readLength(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Negative NBT length " + length);
+        }
+        return length;
+    }
+
+    static void skipFully(final DataInput input, long count) throws IOException {
+        while (count > 0) {
+            final int skipped = input.skipBytes((int) Math.min(count, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes doesn't distinguish the end of the stream, reading does.
+                input.readByte();
+                count--;
+            } else {
+                count -= skipped;
+            }
+        }
+    }
+
+    static void checkDepth(final int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+    }
+
+    private static final class Node {
+
+        final Map<String, Node> children = new HashMap<>();
+        boolean included;
+        boolean marker;
+    }
+
+}
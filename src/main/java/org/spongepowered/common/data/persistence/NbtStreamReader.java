@@ -0,0 +1,283 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.common.util.Constants;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads a binary NBT stream one tag at a time, in the style of a pull
+ * parser, without building the tags it passes over.
+ *
+ * <p>The stream must start with a named root compound, as written by
+ * {@link net.minecraft.nbt.CompressedStreamTools#write(net.minecraft.nbt.NBTTagCompound, java.io.DataOutput)}.
+ * Compounds and lists which are not of interest can be skipped with
+ * {@link #skip()} without reading their contents.</p>
+ */
+public final class NbtStreamReader {
+
+    public enum Token {
+        BEGIN_COMPOUND,
+        END_COMPOUND,
+        BEGIN_LIST,
+        END_LIST,
+        VALUE,
+        END_DOCUMENT
+    }
+
+    private final DataInput input;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private boolean started;
+    @Nullable private Token token;
+    @Nullable private String name;
+    private byte type;
+    private int listSize;
+    @Nullable private Object value;
+
+    public NbtStreamReader(final DataInput input) {
+        this.input = checkNotNull(input, "input");
+    }
+
+    /**
+     * Advances to the next token in the stream.
+     *
+     * @return The next token
+     * @throws IOException If the stream could not be read or is malformed
+     */
+    public Token next() throws IOException {
+        this.name = null;
+        this.value = null;
+        if (this.stack.isEmpty()) {
+            if (this.started) {
+                return this.token = Token.END_DOCUMENT;
+            }
+            this.started = true;
+            final byte rootType = this.input.readByte();
+            if (rootType != Constants.NBT.TAG_COMPOUND) {
+                throw new IOException("Root tag must be a named compound tag");
+            }
+            this.name = this.input.readUTF();
+            return this.begin(rootType);
+        }
+        final Frame frame = this.stack.peek();
+        if (frame.list) {
+            if (frame.remaining == 0) {
+                this.stack.pop();
+                this.type = Constants.NBT.TAG_LIST;
+                return this.token = Token.END_LIST;
+            }
+            frame.remaining--;
+            return this.begin(frame.elementType);
+        }
+        final byte nextType = this.input.readByte();
+        if (nextType == Constants.NBT.TAG_END) {
+            this.stack.pop();
+            this.type = Constants.NBT.TAG_COMPOUND;
+            return this.token = Token.END_COMPOUND;
+        }
+        this.name = this.input.readUTF();
+        return this.begin(nextType);
+    }
+
+    private Token begin(final byte type) throws IOException {
+        this.type = type;
+        switch (type) {
+            case Constants.NBT.TAG_COMPOUND:
+                this.push(new Frame(false, Constants.NBT.TAG_END, 0));
+                return this.token = Token.BEGIN_COMPOUND;
+            case Constants.NBT.TAG_LIST: {
+                final byte elementType = this.input.readByte();
+                this.listSize = NbtProjection.readLength(this.input);
+                this.push(new Frame(true, elementType, this.listSize));
+                return this.token = Token.BEGIN_LIST;
+            }
+            default:
+                this.value = this.readValue(type);
+                return this.token = Token.VALUE;
+        }
+    }
+
+    private void push(final Frame frame) throws IOException {
+        NbtProjection.checkDepth(this.stack.size() + 1);
+        this.stack.push(frame);
+    }
+
+    private Object readValue(final byte type) throws IOException {
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                return this.input.readByte();
+            case Constants.NBT.TAG_SHORT:
+                return this.input.readShort();
+            case Constants.NBT.TAG_INT:
+                return this.input.readInt();
+            case Constants.NBT.TAG_LONG:
+                return this.input.readLong();
+            case Constants.NBT.TAG_FLOAT:
+                return this.input.readFloat();
+            case Constants.NBT.TAG_DOUBLE:
+                return this.input.readDouble();
+            case Constants.NBT.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[NbtProjection.readLength(this.input)];
+                this.input.readFully(array);
+                return array;
+            }
+            case Constants.NBT.TAG_STRING:
+                return this.input.readUTF();
+            case Constants.NBT.TAG_INT_ARRAY: {
+                final int[] array = new int[NbtProjection.readLength(this.input)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = this.input.readInt();
+                }
+                return array;
+            }
+            case Constants.NBT.TAG_LONG_ARRAY: {
+                final long[] array = new long[NbtProjection.readLength(this.input)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = this.input.readLong();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    /**
+     * Skips the rest of the compound or list that was just begun, without
+     * reading its contents. The next token will be the one following its
+     * end.
+     *
+     * @throws IOException If the stream could not be read or is malformed
+     */
+    public void skip() throws IOException {
+        checkState(this.token == Token.BEGIN_COMPOUND || this.token == Token.BEGIN_LIST, "Only a compound or list that was just begun can be skipped");
+        final Frame frame = this.stack.pop();
+        final int depth = this.stack.size() + 1;
+        if (frame.list) {
+            for (int i = 0; i < frame.remaining; i++) {
+                NbtProjection.skipTag(this.input, frame.elementType, depth);
+            }
+        } else {
+            byte innerType;
+            while ((innerType = this.input.readByte()) != Constants.NBT.TAG_END) {
+                NbtProjection.skipFully(this.input, this.input.readUnsignedShort());
+                NbtProjection.skipTag(this.input, innerType, depth);
+            }
+        }
+        this.token = frame.list ? Token.END_LIST : Token.END_COMPOUND;
+    }
+
+    /**
+     * Gets the current token.
+     *
+     * @return The current token, or null before the first call to {@link #next()}
+     */
+    @Nullable
+    public Token getToken() {
+        return this.token;
+    }
+
+    /**
+     * Gets the key of the current tag, which is null for the elements of a
+     * list and for end tokens.
+     *
+     * @return The key of the current tag
+     */
+    @Nullable
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the NBT type of the current tag.
+     *
+     * @return The type of the current tag
+     */
+    public byte getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the NBT type of the elements of the list that was just begun.
+     *
+     * @return The element type
+     */
+    public byte getListElementType() {
+        checkState(this.token == Token.BEGIN_LIST, "Not at the beginning of a list");
+        return this.stack.peek().elementType;
+    }
+
+    /**
+     * Gets the number of elements of the list that was just begun.
+     *
+     * @return The element count
+     */
+    public int getListSize() {
+        checkState(this.token == Token.BEGIN_LIST, "Not at the beginning of a list");
+        return this.listSize;
+    }
+
+    /**
+     * Gets the value of the current tag, boxed for numeric tags and as a
+     * primitive array for array tags.
+     *
+     * @return The value
+     */
+    public Object getValue() {
+        checkState(this.token == Token.VALUE, "Not at a value");
+        return this.value;
+    }
+
+    /**
+     * Gets the depth of compounds and lists the reader is currently in.
+     *
+     * @return The depth
+     */
+    public int getDepth() {
+        return this.stack.size();
+    }
+
+    private static final class Frame {
+
+        final boolean list;
+        final byte elementType;
+        int remaining;
+
+        Frame(final boolean list, final byte elementType, final int remaining) {
+            this.list = list;
+            this.elementType = elementType;
+            this.remaining = remaining;
+        }
+    }
+}
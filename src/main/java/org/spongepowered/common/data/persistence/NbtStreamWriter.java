@@ -0,0 +1,411 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.mixin.core.nbt.NBTTagLongArrayAccessor;
+import org.spongepowered.common.util.Constants;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes a binary NBT stream one tag at a time, straight to a
+ * {@link WritableByteChannel}, without building the tags in memory.
+ *
+ * <p>The first tag written must be the root compound. {@link DataView}s are
+ * written with the same mapping as the {@link NbtTranslator}, so the output
+ * reads back into an equal view.</p>
+ */
+public final class NbtStreamWriter implements Closeable, Flushable {
+
+    private final DataOutputStream output;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private boolean started;
+
+    public NbtStreamWriter(final WritableByteChannel channel) {
+        this.output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(checkNotNull(channel, "channel"))));
+    }
+
+    private void writeHeader(final byte type, @Nullable final String name) throws IOException {
+        if (this.stack.isEmpty()) {
+            checkState(!this.started, "The root compound was already written");
+            checkArgument(type == Constants.NBT.TAG_COMPOUND, "The root tag must be a compound");
+            this.started = true;
+            this.output.writeByte(type);
+            this.output.writeUTF(name == null ? "" : name);
+            return;
+        }
+        final Frame frame = this.stack.peek();
+        if (frame.list) {
+            checkState(frame.elementType == type, "Cannot write a tag of type %s to a list of type %s", type, frame.elementType);
+            checkState(frame.remaining > 0, "The list is already full");
+            frame.remaining--;
+            return;
+        }
+        this.output.writeByte(type);
+        this.output.writeUTF(checkNotNull(name, "Tags in a compound must be named"));
+    }
+
+    public NbtStreamWriter beginCompound(@Nullable final String name) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_COMPOUND, name);
+        this.stack.push(new Frame(false, Constants.NBT.TAG_END, 0));
+        return this;
+    }
+
+    public NbtStreamWriter endCompound() throws IOException {
+        checkState(!this.stack.isEmpty() && !this.stack.peek().list, "Not in a compound");
+        this.stack.pop();
+        this.output.writeByte(Constants.NBT.TAG_END);
+        return this;
+    }
+
+    public NbtStreamWriter beginList(@Nullable final String name, final byte elementType, final int size) throws IOException {
+        checkArgument(size >= 0, "size cannot be negative");
+        this.writeHeader(Constants.NBT.TAG_LIST, name);
+        this.output.writeByte(size == 0 ? Constants.NBT.TAG_END : elementType);
+        this.output.writeInt(size);
+        this.stack.push(new Frame(true, elementType, size));
+        return this;
+    }
+
+    public NbtStreamWriter endList() throws IOException {
+        checkState(!this.stack.isEmpty() && this.stack.peek().list, "Not in a list");
+        checkState(this.stack.peek().remaining == 0, "The list is missing %s elements", this.stack.peek().remaining);
+        this.stack.pop();
+        return this;
+    }
+
+    public NbtStreamWriter writeByte(@Nullable final String name, final byte value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_BYTE, name);
+        this.output.writeByte(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeShort(@Nullable final String name, final short value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_SHORT, name);
+        this.output.writeShort(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeInt(@Nullable final String name, final int value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_INT, name);
+        this.output.writeInt(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeLong(@Nullable final String name, final long value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_LONG, name);
+        this.output.writeLong(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeFloat(@Nullable final String name, final float value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_FLOAT, name);
+        this.output.writeFloat(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeDouble(@Nullable final String name, final double value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_DOUBLE, name);
+        this.output.writeDouble(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeString(@Nullable final String name, final String value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_STRING, name);
+        this.output.writeUTF(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeByteArray(@Nullable final String name, final byte[] value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_BYTE_ARRAY, name);
+        this.output.writeInt(value.length);
+        this.output.write(value);
+        return this;
+    }
+
+    public NbtStreamWriter writeIntArray(@Nullable final String name, final int[] value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_INT_ARRAY, name);
+        this.output.writeInt(value.length);
+        for (final int i : value) {
+            this.output.writeInt(i);
+        }
+        return this;
+    }
+
+    public NbtStreamWriter writeLongArray(@Nullable final String name, final long[] value) throws IOException {
+        this.writeHeader(Constants.NBT.TAG_LONG_ARRAY, name);
+        this.output.writeInt(value.length);
+        for (final long l : value) {
+            this.output.writeLong(l);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a {@link DataView} as a compound, translating its values one
+     * at a time with the same mapping as {@link NbtTranslator#translateData(DataView)}.
+     *
+     * @param name The key of the compound
+     * @param view The view to write
+     * @return This writer
+     * @throws IOException If the output could not be written
+     */
+    public NbtStreamWriter writeView(@Nullable final String name, final DataView view) throws IOException {
+        final NBTTagCompound untouched = view instanceof MemoryDataView ? ((MemoryDataView) view).getUntouchedCompound() : null;
+        if (untouched != null) {
+            return this.writeTag(name, untouched);
+        }
+        this.beginCompound(name);
+        for (final DataQuery query : view.getKeys(false)) {
+            final Object value = view.get(query).get();
+            final String key = query.asString('.');
+            if (value instanceof Boolean) {
+                this.writeByte(key + NbtTranslator.BOOLEAN_IDENTIFIER, (Boolean) value ? (byte) 1 : 0);
+            } else {
+                this.writeObject(key, value);
+            }
+        }
+        return this.endCompound();
+    }
+
+    /**
+     * Writes an existing tag.
+     *
+     * @param name The key of the tag
+     * @param tag The tag to write
+     * @return This writer
+     * @throws IOException If the output could not be written
+     */
+    public NbtStreamWriter writeTag(@Nullable final String name, final NBTBase tag) throws IOException {
+        switch (tag.getId()) {
+            case Constants.NBT.TAG_BYTE:
+                return this.writeByte(name, ((NBTPrimitive) tag).getByte());
+            case Constants.NBT.TAG_SHORT:
+                return this.writeShort(name, ((NBTPrimitive) tag).getShort());
+            case Constants.NBT.TAG_INT:
+                return this.writeInt(name, ((NBTPrimitive) tag).getInt());
+            case Constants.NBT.TAG_LONG:
+                return this.writeLong(name, ((NBTPrimitive) tag).getLong());
+            case Constants.NBT.TAG_FLOAT:
+                return this.writeFloat(name, ((NBTPrimitive) tag).getFloat());
+            case Constants.NBT.TAG_DOUBLE:
+                return this.writeDouble(name, ((NBTPrimitive) tag).getDouble());
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                return this.writeByteArray(name, ((NBTTagByteArray) tag).getByteArray());
+            case Constants.NBT.TAG_STRING:
+                return this.writeString(name, ((NBTTagString) tag).getString());
+            case Constants.NBT.TAG_LIST: {
+                final NBTTagList list = (NBTTagList) tag;
+                this.beginList(name, (byte) list.getTagType(), list.tagCount());
+                for (int i = 0; i < list.tagCount(); i++) {
+                    this.writeTag(null, list.get(i));
+                }
+                return this.endList();
+            }
+            case Constants.NBT.TAG_COMPOUND: {
+                final NBTTagCompound compound = (NBTTagCompound) tag;
+                this.beginCompound(name);
+                for (final String key : compound.getKeySet()) {
+                    this.writeTag(key, compound.getTag(key));
+                }
+                return this.endCompound();
+            }
+            case Constants.NBT.TAG_INT_ARRAY:
+                return this.writeIntArray(name, ((NBTTagIntArray) tag).getIntArray());
+            case Constants.NBT.TAG_LONG_ARRAY:
+                return this.writeLongArray(name, ((NBTTagLongArrayAccessor) tag).accessor$getLongArray());
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + tag.getId());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeObject(@Nullable final String name, final Object value) throws IOException {
+        if (value instanceof Boolean) {
+            this.writeByte(name, (Boolean) value ? (byte) 1 : 0);
+        } else if (value instanceof Byte) {
+            this.writeByte(name, (Byte) value);
+        } else if (value instanceof Short) {
+            this.writeShort(name, (Short) value);
+        } else if (value instanceof Integer) {
+            this.writeInt(name, (Integer) value);
+        } else if (value instanceof Long) {
+            this.writeLong(name, (Long) value);
+        } else if (value instanceof Float) {
+            this.writeFloat(name, (Float) value);
+        } else if (value instanceof Double) {
+            this.writeDouble(name, (Double) value);
+        } else if (value instanceof String) {
+            this.writeString(name, (String) value);
+        } else if (value instanceof byte[]) {
+            this.writeByteArray(name, (byte[]) value);
+        } else if (value instanceof Byte[]) {
+            final Byte[] boxed = (Byte[]) value;
+            final byte[] array = new byte[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                array[i] = boxed[i];
+            }
+            this.writeByteArray(name, array);
+        } else if (value instanceof int[]) {
+            this.writeIntArray(name, (int[]) value);
+        } else if (value instanceof Integer[]) {
+            final Integer[] boxed = (Integer[]) value;
+            final int[] array = new int[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                array[i] = boxed[i];
+            }
+            this.writeIntArray(name, array);
+        } else if (value instanceof long[]) {
+            this.writeLongArray(name, (long[]) value);
+        } else if (value instanceof Long[]) {
+            final Long[] boxed = (Long[]) value;
+            final long[] array = new long[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                array[i] = boxed[i];
+            }
+            this.writeLongArray(name, array);
+        } else if (value instanceof List) {
+            this.writeList(name, (List<?>) value);
+        } else if (value instanceof Map) {
+            this.beginCompound(name);
+            for (final Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                if (entry.getKey() instanceof DataQuery) {
+                    final String key = ((DataQuery) entry.getKey()).asString('.');
+                    if (entry.getValue() instanceof Boolean) {
+                        this.writeByte(key + NbtTranslator.BOOLEAN_IDENTIFIER, (Boolean) entry.getValue() ? (byte) 1 : 0);
+                    } else {
+                        this.writeObject(key, entry.getValue());
+                    }
+                } else {
+                    this.writeObject(entry.getKey().toString(), entry.getValue());
+                }
+            }
+            this.endCompound();
+        } else if (value instanceof DataSerializable) {
+            this.writeView(name, ((DataSerializable) value).toContainer());
+        } else if (value instanceof DataView) {
+            this.writeView(name, (DataView) value);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+        }
+    }
+
+    private void writeList(@Nullable final String name, final List<?> list) throws IOException {
+        // Like NBTTagList, elements of a different type than the first are left out
+        final byte elementType = list.isEmpty() ? Constants.NBT.TAG_END : getType(list.get(0));
+        int size = 0;
+        for (final Object element : list) {
+            if (getType(element) == elementType) {
+                size++;
+            }
+        }
+        this.beginList(name, elementType, size);
+        for (final Object element : list) {
+            if (getType(element) == elementType) {
+                this.writeObject(null, element);
+            }
+        }
+        this.endList();
+    }
+
+    private static byte getType(final Object value) {
+        if (value instanceof Boolean || value instanceof Byte) {
+            return Constants.NBT.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return Constants.NBT.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return Constants.NBT.TAG_INT;
+        } else if (value instanceof Long) {
+            return Constants.NBT.TAG_LONG;
+        } else if (value instanceof Float) {
+            return Constants.NBT.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return Constants.NBT.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return Constants.NBT.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return Constants.NBT.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return Constants.NBT.TAG_INT_ARRAY;
+        } else if (value instanceof long[] || value instanceof Long[]) {
+            return Constants.NBT.TAG_LONG_ARRAY;
+        } else if (value instanceof List) {
+            return Constants.NBT.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return Constants.NBT.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+
+    private static final class Frame {
+
+        final boolean list;
+        final byte elementType;
+        int remaining;
+
+        Frame(final boolean list, final byte elementType, final int remaining) {
+            this.list = list;
+            this.elementType = elementType;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -50,6 +50,8 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.mixin.core.nbt.NBTTagLongArrayAccessor;
 import org.spongepowered.common.util.Constants;
 
@@ -80,12 +82,20 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.getValues(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
+        final NBTTagCompound untouched = container instanceof MemoryDataView ? ((MemoryDataView) container).getUntouchedCompound() : null;
+        if (untouched != null) {
+            // Nothing was translated out of the backing compound, so its tags can be copied as they are
+            for (String key : untouched.getKeySet()) {
+                compound.setTag(key, untouched.getTag(key).copy());
+            }
+            return;
+        }
+        for (DataQuery query : container.getKeys(false)) {
+            Object value = container.get(query).get();
+            String key = query.asString('.');
             if (value instanceof DataView) {
                 NBTTagCompound inner = new NBTTagCompound();
-                containerToCompound(container.getView(entry.getKey()).get(), inner);
+                containerToCompound((DataView) value, inner);
                 compound.setTag(key, inner);
             } else if (value instanceof Boolean) {
                 compound.setTag(key + BOOLEAN_IDENTIFIER, new NBTTagByte(((Boolean) value) ? (byte) 1 : 0));
@@ -182,8 +192,23 @@ private static DataContainer getViewFromCompound(NBTTagCompound compound) {
         return container;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    /**
+     * Gets the key a tag is stored under once translated into a
+     * {@link DataView}.
+     *
+     * @param nbtKey The key of the tag
+     * @return The key in the view
+     */
+    public static String getViewKey(String nbtKey) {
+        return nbtKey.replace(BOOLEAN_IDENTIFIER, "");
+    }
+
     private static void setInternal(NBTBase base, byte type, DataView view, String key) {
+        setInternal(base, type, view, key, false);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void setInternal(NBTBase base, byte type, DataView view, String key, boolean lazy) {
         checkNotNull(base);
         checkNotNull(view);
         checkNotNull(key);
@@ -231,6 +256,10 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
             case Constants.NBT.TAG_COMPOUND:
                 DataView internalView = view.createView(of(key));
                 NBTTagCompound compound = (NBTTagCompound) base;
+                if (lazy && internalView instanceof MemoryDataView) {
+                    ((MemoryDataView) internalView).setLazyCompound(compound);
+                    break;
+                }
                 for (String internalKey : compound.getKeySet()) {
                     NBTBase internalBase = compound.getTag(internalKey);
                     byte internalType = internalBase.getId();
@@ -303,6 +332,32 @@ public DataContainer translateFrom(NBTTagCompound node) {
         return NbtTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Creates a {@link DataContainer} backed by the provided compound, whose
+     * tags are only translated when they are first accessed. The compound
+     * must not be modified afterwards.
+     *
+     * @param node The compound to back the container with
+     * @return The lazily translated container
+     */
+    public DataContainer translateLazily(NBTTagCompound node) {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        container.setLazyCompound(checkNotNull(node));
+        return container;
+    }
+
+    /**
+     * Translates a single tag of a compound backing the provided view,
+     * leaving any nested compound untranslated until it is accessed.
+     *
+     * @param base The tag to translate
+     * @param nbtKey The key of the tag
+     * @param view The view to translate into
+     */
+    public void addLazily(NBTBase base, String nbtKey, DataView view) {
+        setInternal(base, base.getId(), view, nbtKey, true);
+    }
+
     @Override
     public TypeToken<NBTTagCompound> getToken() {
         return TOKEN;
@@ -0,0 +1,266 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Encodes and decodes the varint packed block data of a sponge schematic.
+ *
+ * <p>Large volumes are split into independent segments that are worked on in
+ * parallel. Encoding splits the volume into layers of y coordinates, decoding
+ * splits the byte array at varint boundaries (any byte without the
+ * continuation bit ends a varint), so the format on disk is unchanged.</p>
+ */
+final class SchematicBlockData {
+
+    // Volumes smaller than this are cheaper to handle on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 18;
+    private static final int DECODE_SEGMENT_SIZE = 1 << 16;
+    private static final int ENCODE_TARGET_SIZE = 1 << 16;
+
+    /**
+     * Encodes the blocks of the given volume in y, z, x order. The palette is
+     * only read from, if a block is not yet known to it {@code null} is
+     * returned and the caller has to fall back to assigning ids sequentially.
+     *
+     * @param volume The volume to encode
+     * @param palette The palette to look ids up in
+     * @return The encoded data, or null if the palette is missing a state
+     */
+    @Nullable
+    static byte[] encode(final BlockVolume volume, final Palette<BlockState> palette) {
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i size = volume.getBlockSize();
+        final int width = size.getX();
+        final int height = size.getY();
+        final int length = size.getZ();
+        final int layerSize = width * length;
+        final int layersPerSegment = Math.max(1, ENCODE_TARGET_SIZE / Math.max(1, layerSize));
+        final int segments = layerSize * height < PARALLEL_THRESHOLD ? 1 : (height + layersPerSegment - 1) / layersPerSegment;
+        final int segmentLayers = segments == 1 ? height : layersPerSegment;
+
+        final byte[][] encoded = new byte[segments][];
+        final IntStream stream = IntStream.range(0, segments);
+        (segments == 1 ? stream : stream.parallel()).forEach(segment -> {
+            final int yStart = segment * segmentLayers;
+            final int yEnd = Math.min(height, yStart + segmentLayers);
+            final VarIntBuffer buffer = new VarIntBuffer((yEnd - yStart) * layerSize);
+            for (int y = yStart; y < yEnd; y++) {
+                final int y0 = min.getY() + y;
+                for (int z = 0; z < length; z++) {
+                    final int z0 = min.getZ() + z;
+                    for (int x = 0; x < width; x++) {
+                        final Optional<Integer> id = palette.get(volume.getBlock(min.getX() + x, y0, z0));
+                        if (!id.isPresent()) {
+                            return;
+                        }
+                        buffer.write(id.get());
+                    }
+                }
+            }
+            encoded[segment] = buffer.toByteArray();
+        });
+
+        int total = 0;
+        for (final byte[] bytes : encoded) {
+            if (bytes == null) {
+                return null;
+            }
+            total += bytes.length;
+        }
+        if (segments == 1) {
+            return encoded[0];
+        }
+        final byte[] data = new byte[total];
+        int position = 0;
+        for (final byte[] bytes : encoded) {
+            System.arraycopy(bytes, 0, data, position, bytes.length);
+            position += bytes.length;
+        }
+        return data;
+    }
+
+    /**
+     * Decodes block data written in y, z, x order into a new block buffer
+     * backed by the given palette.
+     *
+     * @param data The encoded block data
+     * @param palette The palette the ids refer to
+     * @param start The minimum position of the buffer
+     * @param size The size of the buffer
+     * @return The decoded buffer
+     * @throws InvalidDataException If the data is corrupted
+     */
+    static ArrayMutableBlockBuffer decode(final byte[] data, final Palette<BlockState> palette, final Vector3i start, final Vector3i size)
+            throws InvalidDataException {
+        final int width = size.getX();
+        final int height = size.getY();
+        final int length = size.getZ();
+        final int volume = width * height * length;
+        final int airId = palette.getOrAssign(BlockTypes.AIR.getDefaultState());
+        final int highestId = palette.getHighestId();
+        if (highestId > Character.MAX_VALUE) {
+            throw new InvalidDataException("Block palette is too large (highest id: " + highestId + ")");
+        }
+        // Resolve the palette up front so the workers only read from a plain array
+        final boolean[] known = new boolean[highestId + 1];
+        for (int id = 0; id <= highestId; id++) {
+            known[id] = palette.get(id).isPresent();
+        }
+        if (data.length > 0 && (data[data.length - 1] & 128) != 0) {
+            throw new InvalidDataException("Block data ends in the middle of a VarInt");
+        }
+
+        final int segments = data.length < PARALLEL_THRESHOLD ? 1 : (data.length + DECODE_SEGMENT_SIZE - 1) / DECODE_SEGMENT_SIZE;
+        final int[] bounds = new int[segments + 1];
+        for (int segment = 1; segment < segments; segment++) {
+            int position = Math.max(segment * DECODE_SEGMENT_SIZE, bounds[segment - 1]);
+            while (position < data.length && (data[position - 1] & 128) != 0) {
+                position++;
+            }
+            bounds[segment] = position;
+        }
+        bounds[segments] = data.length;
+
+        // The first block index of each segment is the number of varints before it
+        final int[] firstIndex = new int[segments + 1];
+        if (segments > 1) {
+            final int[] counts = new int[segments];
+            IntStream.range(0, segments).parallel().forEach(segment -> {
+                int count = 0;
+                for (int i = bounds[segment]; i < bounds[segment + 1]; i++) {
+                    if ((data[i] & 128) == 0) {
+                        count++;
+                    }
+                }
+                counts[segment] = count;
+            });
+            for (int segment = 0; segment < segments; segment++) {
+                firstIndex[segment + 1] = firstIndex[segment] + counts[segment];
+            }
+            if (firstIndex[segments] > volume) {
+                throw new InvalidDataException("Block data contains more blocks than the schematic volume");
+            }
+        }
+
+        final char[] blocks = new char[volume];
+        final int[] decoded = new int[segments];
+        final IntStream stream = IntStream.range(0, segments);
+        (segments == 1 ? stream : stream.parallel()).forEach(segment -> {
+            int index = firstIndex[segment];
+            int i = bounds[segment];
+            final int end = bounds[segment + 1];
+            while (i < end) {
+                int value = 0;
+                int varIntLength = 0;
+                while (true) {
+                    value |= (data[i] & 127) << (varIntLength++ * 7);
+                    if (varIntLength > 5) {
+                        throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                    }
+                    if ((data[i++] & 128) != 128) {
+                        break;
+                    }
+                }
+                if (index >= volume) {
+                    throw new InvalidDataException("Block data contains more blocks than the schematic volume");
+                }
+                if (value < 0 || value >= known.length || !known[value]) {
+                    throw new InvalidDataException("Unknown block palette id " + value);
+                }
+                blocks[toBufferIndex(index, width, height, length)] = (char) value;
+                index++;
+            }
+            decoded[segment] = index;
+        });
+
+        // Blocks missing from the end of the data default to air
+        final int last = decoded[segments - 1];
+        if (last < volume && airId != 0) {
+            for (int index = last; index < volume; index++) {
+                blocks[toBufferIndex(index, width, height, length)] = (char) airId;
+            }
+        }
+        // Only the decoding needs a full char per block, the buffer keeps them packed
+        return ArrayMutableBlockBuffer.packed(palette, start, size, blocks);
+    }
+
+    // Schematic data is stored y, z, x while the buffer is laid out x, z, y
+    private static int toBufferIndex(final int index, final int width, final int height, final int length) {
+        final int layer = width * length;
+        final int y = index / layer;
+        final int z = (index % layer) / width;
+        final int x = (index % layer) % width;
+        return (x * length + z) * height + y;
+    }
+
+    /**
+     * An unsynchronized growable byte array for varint output, one per
+     * encoding segment.
+     */
+    private static final class VarIntBuffer {
+
+        private byte[] bytes;
+        private int size;
+
+        VarIntBuffer(final int capacity) {
+            this.bytes = new byte[Math.max(16, capacity)];
+        }
+
+        void write(int id) {
+            if (this.size + 5 > this.bytes.length) {
+                final byte[] grown = new byte[this.bytes.length << 1];
+                System.arraycopy(this.bytes, 0, grown, 0, this.size);
+                this.bytes = grown;
+            }
+            while ((id & -128) != 0) {
+                this.bytes[this.size++] = (byte) (id & 127 | 128);
+                id >>>= 7;
+            }
+            this.bytes[this.size++] = (byte) id;
+        }
+
+        byte[] toByteArray() {
+            final byte[] result = new byte[this.size];
+            System.arraycopy(this.bytes, 0, result, 0, this.size);
+            return result;
+        }
+    }
+
+    private SchematicBlockData() {
+    }
+}
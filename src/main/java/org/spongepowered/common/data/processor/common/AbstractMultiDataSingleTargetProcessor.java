@@ -55,6 +55,11 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public boolean mightSupport(Class<?> holderType) {
+        return this.holderClass.isAssignableFrom(holderType);
+    }
+
     protected boolean supports(Holder dataHolder) {
         return true;
     }
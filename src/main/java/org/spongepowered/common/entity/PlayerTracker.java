@@ -26,7 +26,13 @@
 
 import org.spongepowered.common.util.Constants;
 
-public class PlayerTracker {
+public final class PlayerTracker {
+
+    /**
+     * The value tracked position tables return for positions that are not
+     * tracked at all. No valid pair of indices packs to this value.
+     */
+    public static final long ABSENT = Long.MIN_VALUE;
 
     public enum Type {
         OWNER(Constants.Sponge.SPONGE_ENTITY_CREATOR),
@@ -39,25 +45,30 @@ public enum Type {
         }
     }
 
-    public int ownerIndex;
-    public int notifierIndex;
+    /**
+     * Packs an owner and a notifier index into the single value that is
+     * stored per position in a chunk's tracked position tables.
+     *
+     * @param ownerIndex The owner index, or -1
+     * @param notifierIndex The notifier index, or -1
+     * @return The packed indices
+     */
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return (long) ownerIndex << 32 | notifierIndex & 0xFFFFFFFFL;
+    }
 
-    public PlayerTracker() {
-        this.ownerIndex = -1;
-        this.notifierIndex = -1;
+    public static long pack(int index, Type type) {
+        return type == Type.OWNER ? pack(index, -1) : pack(-1, index);
     }
 
-    public PlayerTracker(int index, Type type) {
-        if (type == Type.OWNER) {
-            this.ownerIndex = index;
-            this.notifierIndex = -1;
-        } else {
-            this.notifierIndex = index;
-            this.ownerIndex = -1;
-        }
+    public static int ownerIndex(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int notifierIndex(long packed) {
+        return (int) packed;
     }
 
-    public void setNotifier(int notifierIndex) {
-        this.notifierIndex = notifierIndex;
+    private PlayerTracker() {
     }
 }
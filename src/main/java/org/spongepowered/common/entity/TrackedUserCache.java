@@ -0,0 +1,192 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.entity.player.EntityPlayer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.profile.SpongeProfileManager;
+import org.spongepowered.common.util.SpongeUsernameCache;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Resolves the owners and notifiers of tracked blocks to {@link User}s
+ * without touching user storage on the calling thread.
+ *
+ * <p>Offline users are loaded from {@link UserStorageService} on a
+ * background thread and kept in a bounded cache. Lookups that miss the
+ * cache queue such a load and report no user until it completes, the same
+ * way owners with an unknown username already behaved. Chunks prefetch the
+ * users they track when they load, so most lookups hit.</p>
+ */
+public final class TrackedUserCache {
+
+    private static final int MAXIMUM_SIZE = 4096;
+
+    private static final Cache<UUID, User> users = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    // Users storage could not find, so hot lookups don't keep queueing them
+    private static final Cache<UUID, Boolean> missingUsers = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
+
+    private static final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Tracked User Prefetch Thread").setDaemon(true).build());
+
+    /**
+     * Gets the user with the given id if it is online or already cached,
+     * queueing it to be loaded otherwise. Never blocks on user storage.
+     *
+     * @param uuid The user's unique id
+     * @return The user, if available right now
+     */
+    public static Optional<User> getIfResolved(final UUID uuid) {
+        final User online = getOnline(uuid);
+        if (online != null) {
+            return Optional.of(online);
+        }
+        final User user = users.getIfPresent(uuid);
+        if (user == null) {
+            prefetch(uuid);
+        }
+        return Optional.ofNullable(user);
+    }
+
+    /**
+     * Queues the user with the given id to be loaded into the cache, unless
+     * it is online, cached, known to be missing or already queued.
+     *
+     * @param uuid The user's unique id
+     */
+    public static void prefetch(final UUID uuid) {
+        if (users.getIfPresent(uuid) != null || missingUsers.getIfPresent(uuid) != null || pending.contains(uuid)
+                || getOnline(uuid) != null) {
+            return;
+        }
+        final GameProfile profile = getKnownProfile(uuid);
+        if (profile == null) {
+            // If we reach this point, queue UUID for async lookup and try again once the name is known
+            ((SpongeProfileManager) Sponge.getServer().getGameProfileManager()).lookupUserAsync(uuid);
+            missingUsers.put(uuid, Boolean.TRUE);
+            return;
+        }
+        if (!pending.add(uuid)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                load(uuid, profile);
+            } finally {
+                pending.remove(uuid);
+            }
+        });
+    }
+
+    /**
+     * Gets the user with the given id, loading it from user storage on the
+     * calling thread if needed. Only meant for on demand lookups such as
+     * commands, hot paths should use {@link #getIfResolved(UUID)}.
+     *
+     * @param uuid The user's unique id
+     * @return The user, if found
+     */
+    public static Optional<User> get(final UUID uuid) {
+        final User online = getOnline(uuid);
+        if (online != null) {
+            return Optional.of(online);
+        }
+        final User user = users.getIfPresent(uuid);
+        if (user != null) {
+            return Optional.of(user);
+        }
+        final GameProfile profile = getKnownProfile(uuid);
+        if (profile == null) {
+            ((SpongeProfileManager) Sponge.getServer().getGameProfileManager()).lookupUserAsync(uuid);
+            return Optional.empty();
+        }
+        return load(uuid, profile);
+    }
+
+    private static Optional<User> load(final UUID uuid, final GameProfile profile) {
+        try {
+            final Optional<User> user = Sponge.getServiceManager().provide(UserStorageService.class)
+                    .flatMap(service -> service.get(profile));
+            // Online players are looked up directly, holding on to them would leak the entity
+            if (user.isPresent() && !(user.get() instanceof EntityPlayer)) {
+                users.put(uuid, user.get());
+            } else if (!user.isPresent()) {
+                missingUsers.put(uuid, Boolean.TRUE);
+            }
+            return user;
+        } catch (Exception e) {
+            SpongeImpl.getLogger().debug("Could not load tracked user {}", uuid, e);
+            missingUsers.put(uuid, Boolean.TRUE);
+            return Optional.empty();
+        }
+    }
+
+    @Nullable
+    private static User getOnline(final UUID uuid) {
+        if (!Sponge.isServerAvailable()) {
+            return null;
+        }
+        return (User) SpongeImpl.getServer().getPlayerList().getPlayerByUUID(uuid);
+    }
+
+    @Nullable
+    private static GameProfile getKnownProfile(final UUID uuid) {
+        // check username cache
+        final String username = SpongeUsernameCache.getLastKnownUsername(uuid);
+        if (username != null) {
+            return GameProfile.of(uuid, username);
+        }
+        // check mojang cache
+        return Sponge.getServer().getGameProfileManager().getCache().getById(uuid).orElse(null);
+    }
+
+    private TrackedUserCache() {
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.event.Event;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in invocation statistics of the event bus, recorded per
+ * {@link RegisteredListener} and per posted event type.
+ *
+ * <p>Like {@link ShouldFire}, the {@link #ENABLED} flag is a plain static
+ * field which is checked before anything is recorded, so there is next to
+ * no overhead while the statistics are disabled.</p>
+ */
+public final class EventStatistics {
+
+    public static boolean ENABLED = false;
+
+    private static final Set<RegisteredListener<?>> listeners = ConcurrentHashMap.newKeySet();
+    private static final Map<Class<?>, ListenerHistogram> eventTypes = new ConcurrentHashMap<>();
+
+    static void recordListener(RegisteredListener<?> listener, long nanos) {
+        listener.getHistogram().record(nanos);
+        // Remember the listener, so its statistics survive it being unregistered
+        listeners.add(listener);
+    }
+
+    static void recordEvent(Event event, long nanos) {
+        final Class<?> type = event.getClass();
+        ListenerHistogram histogram = eventTypes.get(type);
+        if (histogram == null) {
+            histogram = eventTypes.computeIfAbsent(type, key -> new ListenerHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Gets all the listeners that have been invoked while the statistics
+     * were enabled.
+     *
+     * @return The listeners
+     */
+    public static Set<RegisteredListener<?>> getListeners() {
+        return ImmutableSet.copyOf(listeners);
+    }
+
+    /**
+     * Gets the histograms of the total time spent posting each event type
+     * to all of its listeners.
+     *
+     * @return The histograms by event type
+     */
+    public static Map<Class<?>, ListenerHistogram> getEventTypes() {
+        return ImmutableMap.copyOf(eventTypes);
+    }
+
+    public static void reset() {
+        for (RegisteredListener<?> listener : listeners) {
+            listener.getHistogram().reset();
+        }
+        listeners.clear();
+        eventTypes.clear();
+    }
+
+    private EventStatistics() {
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram with power of two nanosecond buckets, which is
+ * cheap enough to record every single listener invocation into.
+ */
+public final class ListenerHistogram {
+
+    // Bucket i holds the durations in the range [2^(i-1), 2^i)
+    private static final int BUCKETS = 64;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong maxTime = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        this.count.increment();
+        this.totalTime.add(nanos);
+        this.maxTime.accumulateAndGet(nanos, Math::max);
+        this.buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos)));
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    public long getTotalTime() {
+        return this.totalTime.sum();
+    }
+
+    public long getMaxTime() {
+        return this.maxTime.get();
+    }
+
+    public long getAverageTime() {
+        final long count = this.count.sum();
+        return count == 0 ? 0 : this.totalTime.sum() / count;
+    }
+
+    /**
+     * Gets an estimate of the given percentile, this is the upper bound of
+     * the bucket the percentile falls into.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The estimated time in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        final long[] buckets = this.getBuckets();
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return i == 0 ? 0 : Math.min((1L << i) - 1, this.maxTime.get());
+            }
+        }
+        return this.maxTime.get();
+    }
+
+    public long[] getBuckets() {
+        final long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = this.buckets.get(i);
+        }
+        return buckets;
+    }
+
+    void reset() {
+        this.count.reset();
+        this.totalTime.reset();
+        this.maxTime.set(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+    }
+
+}
@@ -38,6 +38,8 @@
 import java.util.EnumMap;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
     private final PluginContainer plugin;
@@ -49,6 +51,7 @@
 
     private final boolean beforeModifications;
     private Timing listenerTimer;
+    @Nullable private volatile ListenerHistogram histogram;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
         this.plugin = checkNotNull(plugin, "plugin");
@@ -81,6 +84,25 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    /**
+     * Gets the invocation statistics of this listener, which are only
+     * recorded while {@link EventStatistics#ENABLED} is set.
+     *
+     * @return The histogram
+     */
+    public ListenerHistogram getHistogram() {
+        ListenerHistogram histogram = this.histogram;
+        if (histogram == null) {
+            synchronized (this) {
+                histogram = this.histogram;
+                if (histogram == null) {
+                    this.histogram = histogram = new ListenerHistogram();
+                }
+            }
+        }
+        return histogram;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -30,8 +30,6 @@
 import co.aikar.timings.Timing;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -64,7 +62,6 @@
 import org.spongepowered.common.item.inventory.custom.CustomInventoryListener;
 import org.spongepowered.common.util.TypeTokenHelper;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
@@ -72,6 +69,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -100,63 +98,51 @@ public class SpongeEventManager implements EventManager {
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * The baked handlers of every posted event type for quick event posting.
+     * Non generic events are looked up by their class to avoid creating an
+     * {@link EventType} for each posted event.
+     *
+     * <p>Posting reads these maps without locking. Entries are baked and
+     * replaced while holding the lock, and only the event types that are
+     * affected by a listener change are rebaked, see
+     * {@link #rebakeHandlers(Set)}.</p>
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private final Map<Class<?>, RegisteredListener.Cache> handlersByClass = new ConcurrentHashMap<>(150);
+    private final Map<EventType<?>, RegisteredListener.Cache> handlersByGenericType = new ConcurrentHashMap<>();
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
+    /**
+     * Bakes the sorted handlers for the event type, the caller must hold
+     * the lock.
+     *
+     * @param eventType The event type
+     * @param <T> The type of event
+     * @return The baked handlers
+     */
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
 
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    handlers.addAll(listeners);
                 }
             }
         }
@@ -165,6 +151,29 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType)
         return new RegisteredListener.Cache(handlers);
     }
 
+    /**
+     * Rebakes the handlers of all the already baked event types which are
+     * a subtype of one of the changed listener event types, the caller must
+     * hold the lock. Other event types can't be affected by the change, so
+     * their handlers are kept as they are.
+     *
+     * @param changedTypes The event types of the added or removed listeners
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void rebakeHandlers(Set<Class<?>> changedTypes) {
+        this.handlersByClass.replaceAll((type, cache) -> isAffected(type, changedTypes) ? bakeHandlers(new EventType(type, null)) : cache);
+        this.handlersByGenericType.replaceAll((type, cache) -> isAffected(type.getType(), changedTypes) ? bakeHandlers(type) : cache);
+    }
+
+    private static boolean isAffected(Class<?> eventType, Set<Class<?>> changedTypes) {
+        for (Class<?> changedType : changedTypes) {
+            if (changedType.isAssignableFrom(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Nullable
     private static String getHandlerErrorOrNull(Method method) {
         int modifiers = method.getModifiers();
@@ -200,20 +209,19 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changedTypes.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                rebakeHandlers(changedTypes);
+            }
         }
     }
 
@@ -346,24 +354,23 @@ public <T extends Event> void registerListener(Object plugin, TypeToken<T> event
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changedTypes.add(handler.getEventType().getType());
                     // TODO: This doesn't seem right, even as it was before
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                rebakeHandlers(changedTypes);
+            }
         }
     }
 
@@ -388,26 +395,39 @@ public void unregisterPluginListeners(Object pluginObj) {
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
+        RegisteredListener.Cache cache;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType()));
+            final EventType<? extends Event> eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType()));
+            cache = this.handlersByGenericType.get(eventType);
+            if (cache == null) {
+                synchronized (this.lock) {
+                    cache = this.handlersByGenericType.computeIfAbsent(eventType, this::bakeHandlers);
+                }
+            }
         } else {
-            eventType = new EventType(eventClass, null);
+            cache = this.handlersByClass.get(eventClass);
+            if (cache == null) {
+                synchronized (this.lock) {
+                    cache = this.handlersByClass.computeIfAbsent(eventClass, type -> bakeHandlers(new EventType(type, null)));
+                }
+            }
         }
-        return this.handlersCache.get(eventType);
+        return cache;
     }
 
     @SuppressWarnings("unchecked")
     private boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        final long postStart = EventStatistics.ENABLED ? System.nanoTime() : 0L;
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
-            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+            for (int i = 0, size = handlers.size(); i < size; i++) {
+                @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
                 try {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
                     }
-                    handler.handle(event);
+                    handle(handler, event);
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
                 }
@@ -415,10 +435,14 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
             if (event instanceof AbstractEvent) {
                 ((AbstractEvent) event).currentOrder = null;
             }
+            if (EventStatistics.ENABLED && postStart != 0L) {
+                EventStatistics.recordEvent(event, System.nanoTime() - postStart);
+            }
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+        for (int i = 0, size = handlers.size(); i < size; i++) {
+            @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
                  final PhaseContext<?> context = createPluginContext(handler);
                  final Timing timings = handler.getTimingsHandler()) {
@@ -430,7 +454,7 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                handle(handler, event);
             } catch (Throwable e) {
                 // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
                 final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
@@ -441,9 +465,26 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
+        if (EventStatistics.ENABLED && postStart != 0L) {
+            EventStatistics.recordEvent(event, System.nanoTime() - postStart);
+        }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    @SuppressWarnings("unchecked")
+    private static void handle(@SuppressWarnings("rawtypes") RegisteredListener handler, Event event) throws Exception {
+        if (!EventStatistics.ENABLED) {
+            handler.handle(event);
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            handler.handle(event);
+        } finally {
+            EventStatistics.recordListener(handler, System.nanoTime() - start);
+        }
+    }
+
     @Nullable
     private EventListenerPhaseContext createPluginContext(RegisteredListener<?> handler) {
         if (PhaseTracker.getInstance().getCurrentState().allowsEventListener()) {
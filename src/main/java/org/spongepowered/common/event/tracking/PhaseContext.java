@@ -130,6 +130,8 @@ public static PhaseContext<?> empty() {
     private boolean allowsBulkBlockCaptures = true; // Defaults to allow block captures
     private boolean allowsBulkEntityCaptures = true;
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
+    @Nullable PhaseMetrics metrics;
+    long switchTime;
 
     @Nullable private Object source;
 
@@ -252,6 +254,19 @@ public boolean allowsBulkEntityCaptures() {
         return this.allowsBulkEntityCaptures;
     }
 
+    /**
+     * Records the cost of this context against the given world metrics once
+     * the phase completes.
+     *
+     * @param metrics The metrics to record to
+     * @return This context
+     */
+    public P metrics(final PhaseMetrics metrics) {
+        checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
+        this.metrics = metrics;
+        return (P) this;
+    }
+
     public P buildAndSwitch() {
         this.isCompleted = true;
         if (SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().generateStackTracePerStateEntry()) {
@@ -647,6 +662,7 @@ protected void reset() {
         this.stackTrace = null;
         this.owner = null;
         this.notifier = null;
+        this.metrics = null;
         if (this.blocksSupplier != null) {
             this.blocksSupplier.reset();
         }
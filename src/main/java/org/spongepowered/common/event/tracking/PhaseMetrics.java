@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per phase counters of what tracking costs a single world. Only ever
+ * updated from the {@link PhaseTracker} on the main thread.
+ */
+public final class PhaseMetrics {
+
+    private final Map<IPhaseState<?>, Entry> entries = new IdentityHashMap<>();
+
+    void onCompleted(final IPhaseState<?> state, final boolean hasCaptures, final long totalNanos, final long unwindNanos) {
+        final Entry entry = this.entries.computeIfAbsent(state, Entry::new);
+        entry.contexts++;
+        if (hasCaptures) {
+            entry.captures++;
+        }
+        entry.totalNanos += totalNanos;
+        entry.unwindNanos += unwindNanos;
+    }
+
+    /**
+     * Gets the recorded entries, most expensive first.
+     *
+     * @return The entries
+     */
+    public List<Entry> getEntries() {
+        final List<Entry> list = new ArrayList<>(this.entries.values());
+        list.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return list;
+    }
+
+    public void reset() {
+        this.entries.clear();
+    }
+
+    public static final class Entry {
+
+        final IPhaseState<?> state;
+        long contexts;
+        long captures;
+        long totalNanos;
+        long unwindNanos;
+
+        Entry(final IPhaseState<?> state) {
+            this.state = state;
+        }
+
+        public IPhaseState<?> getState() {
+            return this.state;
+        }
+
+        public long getContexts() {
+            return this.contexts;
+        }
+
+        public long getCaptures() {
+            return this.captures;
+        }
+
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        public double getTotalMillis() {
+            return this.totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double getUnwindMillis() {
+            return this.unwindNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -261,6 +261,9 @@ void switchToPhase(final IPhaseState<?> state, final PhaseContext<?> phaseContex
         if (Sponge.isServerAvailable() && ((IPhaseState) state).shouldProvideModifiers(phaseContext)) {
             SpongeImpl.getCauseStackManager().registerPhaseContextProvider(phaseContext);
         }
+        if (phaseContext.metrics != null) {
+            phaseContext.switchTime = System.nanoTime();
+        }
         this.stack.push(state, phaseContext);
     }
 
@@ -304,6 +307,7 @@ void completePhase(final IPhaseState<?> prevState) {
         }
 
         final boolean hasCaptures = currentContext.hasCaptures();
+        final long unwindStart = currentContext.metrics != null ? System.nanoTime() : 0L;
         try (final UnwindingPhaseContext unwinding = UnwindingPhaseContext.unwind(state, currentContext, hasCaptures) ) {
             // With UnwindingPhaseContext#unwind checking for post, if it is null, the try
             // will not attempt to close the phase context. If it is required,
@@ -323,6 +327,10 @@ void completePhase(final IPhaseState<?> prevState) {
                 currentContext, e);
         }
         this.checkPhaseContextProcessed(state, currentContext);
+        if (currentContext.metrics != null) {
+            final long now = System.nanoTime();
+            currentContext.metrics.onCompleted(state, hasCaptures, now - currentContext.switchTime, now - unwindStart);
+        }
         // If pop is called, the Deque will already throw an exception if there is no element
         // so it's an error properly handled.
         this.stack.pop();
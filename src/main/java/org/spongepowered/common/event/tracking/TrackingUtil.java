@@ -144,6 +144,12 @@ public final class TrackingUtil {
         });
     public static final int WIDTH = 40;
 
+    private static void trackMetrics(final PhaseContext<?> context, final net.minecraft.world.World world) {
+        if (world instanceof WorldServerBridge && SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().isPhaseMetrics()) {
+            context.metrics(((WorldServerBridge) world).bridge$getPhaseMetrics());
+        }
+    }
+
     public static void tickEntity(final net.minecraft.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
@@ -153,6 +159,7 @@ public static void tickEntity(final net.minecraft.entity.Entity entity) {
         }
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext().source(entity);
+        TrackingUtil.trackMetrics(tickContext, entity.world);
         try (final EntityTickContext context = tickContext;
              final Timing entityTiming = ((TimingBridge) entity).bridge$getTimingsHandler()
         ) {
@@ -182,6 +189,7 @@ public static void tickRidingEntity(final net.minecraft.entity.Entity entity) {
         }
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext().source(entity);
+        TrackingUtil.trackMetrics(tickContext, entity.world);
         try (
              final EntityTickContext context = tickContext;
              final Timing entityTiming = ((TimingBridge) entity).bridge$getTimingsHandler()
@@ -219,6 +227,7 @@ public static void tickTileEntity(final WorldServerBridge mixinWorldServer, fina
         }
 
         final TileEntityTickContext context = TickPhase.Tick.TILE_ENTITY.createPhaseContext().source(mixinTileEntity);
+        TrackingUtil.trackMetrics(context, tileEntity.getWorld());
         try (final PhaseContext<?> phaseContext = context) {
 
             if (tile instanceof OwnershipTrackedBridge) {
@@ -262,6 +271,7 @@ public static void updateTickBlock(
 
         final LocatableBlock locatable = new SpongeLocatableBlockBuilder().world(apiWorld).position(pos.getX(), pos.getY(), pos.getZ()).state((BlockState)state).build();
         final BlockTickContext phaseContext = TickPhase.Tick.BLOCK.createPhaseContext().source(locatable);
+        TrackingUtil.trackMetrics(phaseContext, world);
 
         // We have to associate any notifiers in case of scheduled block updates from other sources
         final PhaseContext<?> currentContext = PhaseTracker.getInstance().getCurrentContext();
@@ -299,6 +309,7 @@ public static void randomTickBlock(final WorldServerBridge mixinWorld, final Blo
 
         final LocatableBlock locatable = new SpongeLocatableBlockBuilder().world(apiWorld).position(pos.getX(), pos.getY(), pos.getZ()).state((BlockState) state).build();
         final BlockTickContext phaseContext = TickPhase.Tick.RANDOM_BLOCK.createPhaseContext().source(locatable);
+        TrackingUtil.trackMetrics(phaseContext, world);
 
         // We have to associate any notifiers in case of scheduled block updates from other sources
         final PhaseContext<?> currentContext = PhaseTracker.getInstance().getCurrentContext();
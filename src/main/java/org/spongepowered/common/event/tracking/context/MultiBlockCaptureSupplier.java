@@ -31,7 +31,9 @@
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.state.IBlockState;
@@ -57,16 +59,16 @@
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -76,11 +78,18 @@ public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
 
     public static final boolean PRINT_TRANSACTIONS = Boolean.valueOf(System.getProperty("sponge.debugBlockTransactions", "false"));
 
-    @Nullable private LinkedListMultimap<BlockPos, SpongeBlockSnapshot> multimap;
+    private static final int MAX_POOLED_LISTS = 256;
+
+    // The collections below are created on first use and then kept, only ever being cleared, since
+    // this supplier is reset and reused along with its pooled PhaseContext. Positions are keyed by
+    // BlockPos#toLong to avoid hashing BlockPos objects for every captured change.
+    // The multimap is only populated while multiple changes were captured for a single position.
+    @Nullable private Long2ObjectLinkedOpenHashMap<List<SpongeBlockSnapshot>> multimap;
+    @Nullable private Deque<List<SpongeBlockSnapshot>> pooledLists;
     @Nullable private ListMultimap<BlockPos, BlockEventData> scheduledEvents;
     @Nullable private List<SpongeBlockSnapshot> snapshots;
     @Nullable private LinkedHashMap<WorldServer, SpongeProxyBlockAccess.Proxy> processingWorlds;
-    @Nullable private Set<BlockPos> usedBlocks;
+    @Nullable private LongOpenHashSet usedBlocks;
     private int transactionIndex = -1; // These are used to keep track of which snapshot is being referred to as "most recent change"
     private int snapshotIndex = -1;    // so that we can appropriately cancel or discard or apply specific event transactions
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
@@ -117,18 +126,20 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
         final BlockPos blockPos = backingSnapshot.getBlockPos();
-        if (this.usedBlocks == null) { // Means we have a first usage. All three fields are null
+        final long key = blockPos.toLong();
+        if (this.usedBlocks == null) { // Means we have a first usage.
+            this.usedBlocks = new LongOpenHashSet();
+        }
+        if (this.usedBlocks.isEmpty()) {
             // At this point, we know we have not captured anything and
             // can just populate the normal list.
-            this.usedBlocks = new HashSet<>();
-
-            this.usedBlocks.add(blockPos);
+            this.usedBlocks.add(key);
             this.addSnapshot(backingSnapshot);
             return true;
         }
         // This isn't our first rodeo...
-        final boolean added = this.usedBlocks.add(blockPos); // add it to the set of positions already used and use the boolean
-        if (this.multimap != null) {
+        final boolean added = this.usedBlocks.add(key); // add it to the set of positions already used and use the boolean
+        if (this.hasMultipleChanges()) {
             // Means we've already got multiple changes per position once before.
             // Likewise, the used blocks, snapshots and multimap will NOT be null.
             // more fasts, we know we have multiple block positions.
@@ -139,12 +150,12 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
                 this.addSnapshot(backingSnapshot);
             }
             // we don't have to
-            this.multimap.put(blockPos, backingSnapshot);
+            this.putMulti(key, backingSnapshot);
 
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
             if (!added) {
-                associateBlockChangeForPosition(newState, blockPos);
+                associateBlockChangeForPosition(newState, key);
             }
             return added;
         }
@@ -152,17 +163,19 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         if (!added) {
             // Ok, means we have a multi change on a same position, now to use the multimap
             // for the first time.
-            this.multimap = LinkedListMultimap.create(); // LinkedListMultimap is insertion order respective, so the backed lists per
+            if (this.multimap == null) {
+                this.multimap = new Long2ObjectLinkedOpenHashMap<>(); // Linked to be insertion order respective, like the snapshots list
+            }
             // Now to populate it from the previously used list of snapshots...
             for (final SpongeBlockSnapshot existing : this.snapshots) { // Ignore snapshots potentially being null, it will never be null at this point.
-                this.multimap.put(existing.getBlockPos(), existing);
+                this.putMulti(existing.getBlockPos().toLong(), existing);
             }
             // And place the snapshot into the multimap.
-            this.multimap.put(blockPos, backingSnapshot);
+            this.putMulti(key, backingSnapshot);
             // Now we can re-evaluate the modified block position
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
-            associateBlockChangeForPosition(newState, blockPos);
+            associateBlockChangeForPosition(newState, key);
             return false;
         }
         // At this point, we haven't captured the block position yet.
@@ -172,6 +185,38 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         return true;
     }
 
+    private boolean hasMultipleChanges() {
+        return this.multimap != null && !this.multimap.isEmpty();
+    }
+
+    private void putMulti(final long key, final SpongeBlockSnapshot snapshot) {
+        List<SpongeBlockSnapshot> list = this.multimap.get(key);
+        if (list == null) {
+            list = this.pooledLists == null || this.pooledLists.isEmpty() ? new ArrayList<>(2) : this.pooledLists.pop();
+            this.multimap.put(key, list);
+        }
+        list.add(snapshot);
+    }
+
+    private void releaseList(final List<SpongeBlockSnapshot> list) {
+        list.clear();
+        if (this.pooledLists == null) {
+            this.pooledLists = new ArrayDeque<>();
+        }
+        if (this.pooledLists.size() < MAX_POOLED_LISTS) {
+            this.pooledLists.push(list);
+        }
+    }
+
+    private void clearMulti() {
+        if (this.multimap != null) {
+            for (final List<SpongeBlockSnapshot> list : this.multimap.values()) {
+                this.releaseList(list);
+            }
+            this.multimap.clear();
+        }
+    }
+
     private void addSnapshot(final SpongeBlockSnapshot backingSnapshot) {
         if (this.snapshots == null) {
             this.snapshots = new ArrayList<>();
@@ -189,11 +234,11 @@ private void addSnapshot(final SpongeBlockSnapshot backingSnapshot) {
      * {@code null}, otherwise it will cause an NPE.</p>
      *
      * @param newState The incoming block change to compare to change
-     * @param blockPos The block position to get the backing list from the multimap
+     * @param key The packed block position to get the backing list from the multimap
      */
     @SuppressWarnings("unchecked")
-    private void associateBlockChangeForPosition(final IBlockState newState, final BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> list = this.multimap.get(blockPos);
+    private void associateBlockChangeForPosition(final IBlockState newState, final long key) {
+        final List<SpongeBlockSnapshot> list = this.multimap.get(key);
         if (list != null && !list.isEmpty()) {
             final SpongeBlockSnapshot originalSnapshot = list.get(0);
             final PhaseContext<?> peek = PhaseTracker.getInstance().getCurrentContext();
@@ -245,7 +290,7 @@ public final void prune(final BlockSnapshot snapshot) {
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
         final BlockPos blockPos = backingSnapshot.getBlockPos();
         // Check if we have a multi-pos
-        if (this.multimap != null) {
+        if (this.hasMultipleChanges()) {
             pruneFromMulti(backingSnapshot, blockPos);
             return;
         }
@@ -264,12 +309,13 @@ private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockP
             // also means we didn't capture.... wtf is going on at this point?
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
         }
-        this.usedBlocks.remove(blockPos);
+        this.usedBlocks.remove(blockPos.toLong());
         this.snapshots.remove(backingSnapshot); // Should be the same snapshot used
     }
 
     private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(blockPos);
+        final long key = blockPos.toLong();
+        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(key);
         if (snapshots != null) {
             for (final Iterator<SpongeBlockSnapshot> iterator = snapshots.iterator(); iterator.hasNext(); ) {
                 final SpongeBlockSnapshot next = iterator.next();
@@ -280,19 +326,19 @@ private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final Blo
             }
             // If the list view is now empty, we need to prune the position from the multimap
             if (snapshots.isEmpty()) {
-                this.multimap.removeAll(blockPos);
+                this.releaseList(this.multimap.remove(key));
                 // And then prune the snapshot from the list of firsts
                 for (final Iterator<SpongeBlockSnapshot> firsts = this.snapshots.iterator(); firsts.hasNext(); ) {
                     final SpongeBlockSnapshot next = firsts.next();
                     if (next.equals(backingSnapshot)) {
                         firsts.remove();
                         // And if it's been found, remove the position from the used blocks as well.
-                        this.usedBlocks.remove(blockPos);
+                        this.usedBlocks.remove(key);
                         break;
                     }
                 }
                 if (this.snapshots.isEmpty()) {
-                    this.multimap = null;
+                    this.clearMulti();
                 }
             }
         }
@@ -335,18 +381,15 @@ public final boolean isEmpty() {
      *
      * @param consumer The consumer to activate
      */
-    @SuppressWarnings("UnstableApiUsage") // Guava marks Multimaps.asMap as Beta features
     public final void acceptAndClearIfNotEmpty(final BiConsumer<List<? extends BlockSnapshot>, Map<BlockPos, List<BlockSnapshot>>> consumer) {
-        if (this.multimap != null) {
+        if (this.hasMultipleChanges()) {
             final List<? extends BlockSnapshot> blockSnapshots = get();
-            // Since multimaps provide a view when asMap is called, we need to recreate the collection
-            // of the map to pass into the consumer
-            final Map<BlockPos, List<SpongeBlockSnapshot>> view = Multimaps.asMap(this.multimap);
-            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(view.size());
-            for (final Map.Entry<BlockPos, List<SpongeBlockSnapshot>> entryView : view.entrySet()) {
-                map.put(entryView.getKey(), new ArrayList<>(entryView.getValue()));
+            // The position lists are recycled once cleared, so they need to be copied for the consumer
+            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(this.multimap.size());
+            for (final Long2ObjectMap.Entry<List<SpongeBlockSnapshot>> entry : this.multimap.long2ObjectEntrySet()) {
+                map.put(BlockPos.fromLong(entry.getLongKey()), new ArrayList<>(entry.getValue()));
             }
-            this.multimap.clear(); // Clean captured lists before they get potentially contaminated by processing.
+            this.clearMulti(); // Clean captured lists before they get potentially contaminated by processing.
             consumer.accept(blockSnapshots, map); // Accept the list and map
         }
     }
@@ -545,13 +588,9 @@ public void cancelTransaction(final BlockSnapshot original) {
 
 
     public void clear() {
-        if (this.multimap != null) {
-            this.multimap.clear();
-            this.multimap = null;
-        }
+        this.clearMulti();
         if (this.snapshots != null) {
             this.snapshots.clear();
-            this.snapshots = null;
         }
         if (this.usedBlocks != null) {
             this.usedBlocks.clear();
@@ -588,10 +627,10 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(final SpongeBlockS
         final BlockSnapshot newSnapshot =
             ((WorldServerBridge) worldServer).bridge$createSnapshot(newState, newActualState, blockPos, BlockChangeFlags.NONE);
         // Up until this point, we can create a default Transaction
-        if (this.multimap != null) { // But we need to check if there's any intermediary block changes...
+        if (this.hasMultipleChanges()) { // But we need to check if there's any intermediary block changes...
             // And because multi is true, we can be sure the multimap is populated at least somewhere.
-            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos);
-            if (!intermediary.isEmpty() && intermediary.size() > 1) {
+            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos.toLong());
+            if (intermediary != null && intermediary.size() > 1) {
                 // We need to make a carbon copy of the list since it's technically a key view list
                 // within the multimap, so, if the multimap is cleared, at the very least, the list will
                 // not be cleared. Likewise, we also need to skip over the first element since the snapshots
@@ -615,7 +654,7 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(final SpongeBlockS
     }
 
     public boolean trackEvent(final BlockPos pos, final BlockEventData blockEventData) {
-        if (this.usedBlocks != null && this.usedBlocks.contains(pos)) {
+        if (this.usedBlocks != null && this.usedBlocks.contains(pos.toLong())) {
             if (this.scheduledEvents == null) {
                 this.scheduledEvents = LinkedListMultimap.create();
             }
@@ -832,17 +871,13 @@ public boolean hasBlocksCaptured() {
     }
 
     public void reset() {
-        if (this.multimap != null) {
-            // shouldn't but whatever, it's the end of a phase.
-            this.multimap.clear();
-            this.multimap = null;
-        }
+        // shouldn't but whatever, it's the end of a phase.
+        this.clearMulti();
         if (this.scheduledEvents != null) {
             this.scheduledEvents.clear();
         }
         if (this.snapshots != null) {
             this.snapshots.clear();
-            this.snapshots = null;
         }
         if (this.usedBlocks != null) {
             this.usedBlocks.clear();
@@ -851,15 +886,15 @@ public void reset() {
         this.transactionIndex = -1;
         this.snapshotIndex = -1;
         if (this.head != null) {
-            this.head = null;
-            this.tail = null;
+            // Unlink the transactions before dropping the head so none of them keeps the rest reachable.
             for (BlockTransaction transaction = this.head; transaction != null; ) {
                 final BlockTransaction next = transaction.next;
                 transaction.previous = null;
                 transaction.next = null;
                 transaction = next;
             }
-
+            this.head = null;
+            this.tail = null;
         }
 
     }
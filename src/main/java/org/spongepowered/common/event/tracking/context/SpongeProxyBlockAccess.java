@@ -27,6 +27,10 @@
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Queues;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -49,22 +53,19 @@
 
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
 public final class SpongeProxyBlockAccess implements IBlockAccess, AutoCloseable {
     private static final boolean DEBUG_PROXY = Boolean.valueOf(System.getProperty("sponge.debugProxyChanges", "false"));
 
-    private final LinkedHashMap<BlockPos, IBlockState> processed = new LinkedHashMap<>();
-    private final LinkedHashMap<BlockPos, TileEntity> affectedTileEntities = new LinkedHashMap<>();
+    // Keyed by BlockPos#toLong, so lookups neither hash nor retain (possibly mutable) BlockPos objects.
+    private final Long2ObjectLinkedOpenHashMap<IBlockState> processed = new Long2ObjectLinkedOpenHashMap<>();
+    private final Long2ObjectLinkedOpenHashMap<TileEntity> affectedTileEntities = new Long2ObjectLinkedOpenHashMap<>();
     private final ListMultimap<BlockPos, TileEntity> queuedTiles = LinkedListMultimap.create();
     private final ListMultimap<BlockPos, TileEntity> queuedRemovals = LinkedListMultimap.create();
-    private final Set<BlockPos> markedRemoved = new HashSet<>();
+    private final LongOpenHashSet markedRemoved = new LongOpenHashSet();
     private final Deque<Proxy> proxies = Queues.newArrayDeque();
     private WorldServer processingWorld;
     @Nullable private BlockTransaction processingTransaction;
@@ -88,14 +89,15 @@ SpongeProxyBlockAccess proceed(final BlockPos pos, final IBlockState state, fina
         if (this.proxies.isEmpty()) {
             throw new IllegalStateException("Cannot push a new block change without having proxies!");
         }
-        final IBlockState existing = this.processed.put(pos, state);
+        final long key = pos.toLong();
+        final IBlockState existing = this.processed.put(key, state);
 
         if (!this.proxies.isEmpty()) {
             final Proxy proxy = this.proxies.peek();
             if (existing == null) {
-                proxy.markNew(pos);
-            } else if ((this.processingTransaction != null || !proxy.isStored(pos)) && !proxy.isNew(pos)) {
-                proxy.store(pos, state);
+                proxy.markNew(key);
+            } else if ((this.processingTransaction != null || !proxy.isStored(key)) && !proxy.isNew(key)) {
+                proxy.store(key, state);
             }
         }
         if (b && this.processingTransaction != null) {
@@ -160,24 +162,24 @@ private void popProxy(final Proxy oldProxy) {
         }
         this.proxies.pop();
         if (proxy.hasNew()) {
-            for (final BlockPos pos : proxy.newBlocks) {
-                this.processed.remove(pos);
+            for (final LongIterator iterator = proxy.newBlocks.iterator(); iterator.hasNext(); ) {
+                this.processed.remove(iterator.nextLong());
             }
         }
         if (proxy.hasStored()) {
             if (!this.proxies.isEmpty()) {
-                for (final Map.Entry<BlockPos, IBlockState> entry : proxy.processed.entrySet()) {
-                    this.processed.put(entry.getKey(), entry.getValue());
+                for (final Long2ObjectMap.Entry<IBlockState> entry : proxy.processed.long2ObjectEntrySet()) {
+                    this.processed.put(entry.getLongKey(), entry.getValue());
                 }
             } else {
-                for (final BlockPos blockPos : proxy.processed.keySet()) {
-                    this.processed.remove(blockPos);
+                for (final LongIterator iterator = proxy.processed.keySet().iterator(); iterator.hasNext(); ) {
+                    this.processed.remove(iterator.nextLong());
                 }
             }
         }
         if (proxy.hasRemovals()) {
-            for (final BlockPos removedTile : proxy.markedRemovedTiles) {
-                this.markedRemoved.remove(removedTile);
+            for (final LongIterator iterator = proxy.markedRemovedTiles.iterator(); iterator.hasNext(); ) {
+                this.markedRemoved.remove(iterator.nextLong());
             }
         }
         if (this.proxies.isEmpty()) {
@@ -186,7 +188,9 @@ private void popProxy(final Proxy oldProxy) {
                 pretty = new PrettyPrinter(60)
                     .add("%s : %s", "Remaining", this.processed.size());
                 final PrettyPrinter printer = pretty;
-                this.processed.forEach(((pos, state) -> printer.add("- %s : %s", "Pos", pos).addWrapped(60, "  %s : %s", "State", state)));
+                for (final Long2ObjectMap.Entry<IBlockState> entry : this.processed.long2ObjectEntrySet()) {
+                    printer.add("- %s : %s", "Pos", BlockPos.fromLong(entry.getLongKey())).addWrapped(60, "  %s : %s", "State", entry.getValue());
+                }
                 this.processed.clear();
             }
             if (!this.markedRemoved.isEmpty()) {
@@ -195,7 +199,9 @@ private void popProxy(final Proxy oldProxy) {
                 }
                 pretty.add("Unclaimed Removed Tile Positions");
                 final PrettyPrinter printer = pretty;
-                this.markedRemoved.forEach(pos -> printer.add("  -%s", pos));
+                for (final LongIterator iterator = this.markedRemoved.iterator(); iterator.hasNext(); ) {
+                    printer.add("  -%s", BlockPos.fromLong(iterator.nextLong()));
+                }
                 pretty.add();
                 this.markedRemoved.clear();
             }
@@ -222,16 +228,17 @@ private void popProxy(final Proxy oldProxy) {
                     pretty = new PrettyPrinter(60);
                 }
                 final PrettyPrinter printer = pretty;
-                this.affectedTileEntities.forEach(((pos, tileEntity) -> {
+                for (final Long2ObjectMap.Entry<TileEntity> entry : this.affectedTileEntities.long2ObjectEntrySet()) {
+                    final TileEntity tileEntity = entry.getValue();
                     if (tileEntity == null) {
-                        return;
+                        continue;
                     }
                     if (!this.hasTile) {
                         printer.add("Unremoved TileEntities affected by the proxy, likely will cause issues if these are meant to be added to the world!");
                     }
                     this.hasTile = true;
-                    printer.add(" - %s : %s", pos, ((TileEntityBridge) tileEntity).bridge$getPrettyPrinterString());
-                }));
+                    printer.add(" - %s : %s", BlockPos.fromLong(entry.getLongKey()), ((TileEntityBridge) tileEntity).bridge$getPrettyPrinterString());
+                }
                 this.affectedTileEntities.clear();
             }
 
@@ -245,26 +252,33 @@ private void popProxy(final Proxy oldProxy) {
         }
     }
 
+    // The lookups below are made for every tile entity and block state the world is asked for,
+    // so they return early without packing the position while nothing is being tracked.
+
     @Override
     public TileEntity getTileEntity(final BlockPos pos) {
-        return this.affectedTileEntities.get(pos);
+        return this.affectedTileEntities.isEmpty() ? null : this.affectedTileEntities.get(pos.toLong());
     }
 
     public boolean hasTileEntity(final BlockPos pos) {
-        return this.affectedTileEntities.containsKey(pos);
+        return !this.affectedTileEntities.isEmpty() && this.affectedTileEntities.containsKey(pos.toLong());
     }
 
     public boolean hasTileEntity(final BlockPos pos, final TileEntity tileEntity) {
-        return this.affectedTileEntities.get(pos) == tileEntity;
+        return this.getTileEntity(pos) == tileEntity;
     }
 
     public boolean isTileEntityRemoved(final BlockPos pos) {
-        return this.markedRemoved.contains(pos);
+        return !this.markedRemoved.isEmpty() && this.markedRemoved.contains(pos.toLong());
     }
 
     @Override
     public IBlockState getBlockState(final BlockPos pos) {
-        return this.processed.get(pos);
+        // Block states are only ever processed while a proxy is on the stack, and are cleared once the last one is popped.
+        if (this.proxies.isEmpty() || this.processed.isEmpty()) {
+            return null;
+        }
+        return this.processed.get(pos.toLong());
     }
 
     @Override
@@ -297,36 +311,38 @@ public void onChunkChanged(final BlockPos pos, final IBlockState newState) {
         proceed(pos, newState, false);
     }
 
-    private void unmarkRemoval(final BlockPos pos) {
-        this.markedRemoved.remove(pos);
+    private void unmarkRemoval(final long key) {
+        this.markedRemoved.remove(key);
         if (!this.proxies.isEmpty()) {
             final Proxy proxy = this.proxies.peek();
-            if (proxy.isMarkedForRemoval(pos)) {
-                proxy.unmarkRemoval(pos);
+            if (proxy.isMarkedForRemoval(key)) {
+                proxy.unmarkRemoval(key);
             }
         }
     }
 
     void unmarkRemoval(final BlockPos pos, final TileEntity tileEntity) {
-        unmarkRemoval(pos);
+        final long key = pos.toLong();
+        unmarkRemoval(key);
         if (tileEntity != null) {
             this.queuedRemovals.remove(pos, tileEntity);
-            final TileEntity removed = this.affectedTileEntities.remove(pos);
+            final TileEntity removed = this.affectedTileEntities.remove(key);
             if (removed != null) {
-                this.affectedTileEntities.put(pos, tileEntity);
+                this.affectedTileEntities.put(key, tileEntity);
             }
         }
     }
 
     void proceedWithRemoval(final BlockPos targetPosition, final TileEntity removed) {
-        this.markedRemoved.remove(targetPosition);
-        final TileEntity existing = this.affectedTileEntities.remove(targetPosition);
+        final long key = targetPosition.toLong();
+        this.markedRemoved.remove(key);
+        final TileEntity existing = this.affectedTileEntities.remove(key);
         // existing should be removed
         // Always remove the tile entity from various lists.
         if (removed != null) {
             this.queuedRemovals.remove(targetPosition, removed);
             if (this.queuedTiles.containsEntry(targetPosition, removed)) {
-                markRemovedTile(targetPosition);
+                markRemovedTile(key);
             } else {
                 removeTileEntityFromWorldAndChunk(removed);
             }
@@ -357,7 +373,7 @@ void proceedWithAdd(final BlockPos targetPos, final TileEntity added) {
             System.err.println("Unknown removal for: " + targetPos + " with tile entity: " + added);
         }
         unmarkRemoval(targetPos, added);
-        final TileEntity existing = this.affectedTileEntities.remove(targetPos);
+        final TileEntity existing = this.affectedTileEntities.remove(targetPos.toLong());
         if (existing != null && existing != added) {
             ((TileEntityBridge) existing).bridge$setCaptured(false);
             existing.invalidate();
@@ -393,9 +409,10 @@ public boolean isTileQueuedForRemoval(final BlockPos pos, final TileEntity tileE
     void queueTileAddition(final BlockPos pos, final TileEntity added) {
         // We want to provide the "added tile entity" to the proxy so any requests for this
         // new tile entity will succeed in returning the appropriate one.
-        this.affectedTileEntities.put(pos, added);
+        final long key = pos.toLong();
+        this.affectedTileEntities.put(key, added);
         // Also, remove the position from being marked as removed.
-        this.markedRemoved.remove(pos);
+        this.markedRemoved.remove(key);
         if (added != null && added.getWorld() != this.processingWorld) {
             added.setWorld(this.processingWorld);
         }
@@ -403,9 +420,10 @@ void queueTileAddition(final BlockPos pos, final TileEntity added) {
     }
 
     void unQueueTileAddition(final BlockPos pos, final TileEntity added) {
-        final TileEntity remove = this.affectedTileEntities.remove(pos);
+        final long key = pos.toLong();
+        final TileEntity remove = this.affectedTileEntities.remove(key);
         if (remove != added) {
-            this.affectedTileEntities.put(pos, remove);
+            this.affectedTileEntities.put(key, remove);
         }
         this.queuedTiles.remove(pos, added);
     }
@@ -415,8 +433,9 @@ void queueRemoval(final TileEntity removed) {
             // Set the tile entity to the affected tile entities so it is retrieved
             // by the hooks in WorldServerMixin for getting tiles for removal.
             final BlockPos pos = removed.getPos();
-            this.affectedTileEntities.put(pos, null);
-            markRemovedTile(pos);
+            final long key = pos.toLong();
+            this.affectedTileEntities.put(key, null);
+            markRemovedTile(key);
             if (!this.queuedRemovals.containsEntry(pos, removed)) {
                 this.queuedRemovals.put(pos, removed);
             }
@@ -430,8 +449,9 @@ void queueReplacement(final TileEntity added, final TileEntity removed) {
         // retrieved by the target world will return the new added tile entity
         // without it actually being added yet to the world/chunk. Likewise, it will
         // not be removed from the world/chunk until the BlockTransaction is processed.
-        final TileEntity existing = this.affectedTileEntities.put(removed.getPos(), added);
-        this.markedRemoved.remove(removed.getPos());
+        final long key = removed.getPos().toLong();
+        final TileEntity existing = this.affectedTileEntities.put(key, added);
+        this.markedRemoved.remove(key);
         if (existing != null && existing != removed) {
             // Someone went and changed? Maybe it's already removed?
             this.queuedRemovals.put(existing.getPos(), existing);
@@ -440,7 +460,7 @@ void queueReplacement(final TileEntity added, final TileEntity removed) {
     }
 
     public boolean succeededInAdding(final BlockPos pos, final TileEntity tileEntity) {
-        final TileEntity removed = this.affectedTileEntities.remove(pos);
+        final TileEntity removed = this.affectedTileEntities.remove(pos.toLong());
         if (removed != null && removed != tileEntity) {
             System.err.println("Removed a tile entity that wasn't expected to be removed: " + removed);
             return false;
@@ -449,27 +469,28 @@ public boolean succeededInAdding(final BlockPos pos, final TileEntity tileEntity
     }
 
     void pushTile(final BlockPos pos, final TileEntity tile) {
-        this.affectedTileEntities.put(pos, tile);
+        final long key = pos.toLong();
+        this.affectedTileEntities.put(key, tile);
         if (tile == null) {
-            markRemovedTile(pos);
+            markRemovedTile(key);
         } else {
-            unmarkRemoval(pos);
+            unmarkRemoval(key);
         }
     }
 
-    private void markRemovedTile(final BlockPos pos) {
-        final boolean added = this.markedRemoved.add(pos);
+    private void markRemovedTile(final long key) {
+        final boolean added = this.markedRemoved.add(key);
         if (added) {
             // We want the tile entity to be null at the position, without being able to retrieve it
             // because if there's a queued tile being added, well, then it's marked for addition later,
             // but we do not want to be showing that tile entity if there's supposed to be an "empty"
             // or "null" tile entity at the processing time.
-            this.affectedTileEntities.put(pos, null);
+            this.affectedTileEntities.put(key, null);
         }
         if (!this.proxies.isEmpty()) {
             final Proxy proxy = this.proxies.peek();
-            if (!proxy.isMarkedForRemoval(pos)) {
-                proxy.storeMarkedRemoval(pos);
+            if (!proxy.isMarkedForRemoval(key)) {
+                proxy.storeMarkedRemoval(key);
             }
         }
     }
@@ -480,13 +501,21 @@ public WorldServerBridge getWorld() {
 
     public void addToPrinter(final PrettyPrinter printer) {
         printer.add(" BlockStates");
-        this.processed.forEach((pos, state) -> printer.add("  %s : %s", pos, state));
+        for (final Long2ObjectMap.Entry<IBlockState> entry : this.processed.long2ObjectEntrySet()) {
+            printer.add("  %s : %s", BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+        }
         printer.add()
             .add(" MarkedRemoved");
-        this.markedRemoved.forEach(pos -> printer.add("  - %s", pos));
+        for (final LongIterator iterator = this.markedRemoved.iterator(); iterator.hasNext(); ) {
+            printer.add("  - %s", BlockPos.fromLong(iterator.nextLong()));
+        }
         printer.add()
             .add(" Affected Tiles");
-        this.affectedTileEntities.forEach((pos, tileEntity) -> printer.add("  - %s : %s", pos, tileEntity == null ? "null" : ((TileEntityBridge) tileEntity).bridge$getPrettyPrinterString()));
+        for (final Long2ObjectMap.Entry<TileEntity> entry : this.affectedTileEntities.long2ObjectEntrySet()) {
+            final TileEntity tileEntity = entry.getValue();
+            printer.add("  - %s : %s", BlockPos.fromLong(entry.getLongKey()),
+                tileEntity == null ? "null" : ((TileEntityBridge) tileEntity).bridge$getPrettyPrinterString());
+        }
         printer.add()
             .add(" QueuedTiles");
         this.queuedTiles.forEach((pos, tileEntity) -> printer.add("  - %s : %s", pos, tileEntity == null ? "null" : ((TileEntityBridge) tileEntity).bridge$getPrettyPrinterString()));
@@ -540,6 +569,16 @@ public boolean hasProxy() {
         return !this.proxies.isEmpty();
     }
 
+    /**
+     * Gets whether block states are being processed that the chunks of the
+     * world do not hold yet, see {@link #getBlockState(BlockPos)}.
+     *
+     * @return True if reading from the chunks could return stale states
+     */
+    public boolean hasProcessedStates() {
+        return !this.proxies.isEmpty() && !this.processed.isEmpty();
+    }
+
     public TileEntity getQueuedTileForRemoval(final BlockPos pos) {
         if (this.queuedRemovals.isEmpty()) {
             return null;
@@ -576,10 +615,10 @@ public static final class Proxy implements AutoCloseable {
 
         private final SpongeProxyBlockAccess proxyAccess;
         @Nullable Exception stack_debug;
-        @Nullable private LinkedHashMap<BlockPos, IBlockState> processed;
-        @Nullable private Set<BlockPos> newBlocks;
-        @Nullable private Set<BlockPos> markedRemovedTiles;
-        @Nullable private LinkedHashMap<BlockPos, TileEntity> removedTiles;
+        @Nullable private Long2ObjectLinkedOpenHashMap<IBlockState> processed;
+        @Nullable private LongOpenHashSet newBlocks;
+        @Nullable private LongOpenHashSet markedRemovedTiles;
+        @Nullable private Long2ObjectLinkedOpenHashMap<TileEntity> removedTiles;
 
         Proxy(final SpongeProxyBlockAccess spongeProxyBlockAccess) {
             this.proxyAccess = spongeProxyBlockAccess;
@@ -599,50 +638,50 @@ boolean hasStored() {
             return this.processed != null && !this.processed.isEmpty();
         }
 
-        void markNew(final BlockPos pos) {
+        void markNew(final long key) {
             if (this.newBlocks == null) {
-                this.newBlocks = new HashSet<>();
+                this.newBlocks = new LongOpenHashSet();
             }
-            this.newBlocks.add(pos);
+            this.newBlocks.add(key);
         }
 
-        boolean isNew(final BlockPos pos) {
-            return this.newBlocks != null && this.newBlocks.contains(pos);
+        boolean isNew(final long key) {
+            return this.newBlocks != null && this.newBlocks.contains(key);
         }
 
-        boolean isStored(final BlockPos pos) {
-            return this.processed != null && this.processed.containsKey(pos);
+        boolean isStored(final long key) {
+            return this.processed != null && this.processed.containsKey(key);
         }
 
 
-        void store(final BlockPos pos, final IBlockState state) {
+        void store(final long key, final IBlockState state) {
             if (this.processed == null) {
-                this.processed = new LinkedHashMap<>();
+                this.processed = new Long2ObjectLinkedOpenHashMap<>();
             }
-            this.processed.put(pos, state);
+            this.processed.put(key, state);
         }
 
-        boolean isMarkedForRemoval(final BlockPos pos) {
-            return this.markedRemovedTiles != null && this.markedRemovedTiles.contains(pos);
+        boolean isMarkedForRemoval(final long key) {
+            return this.markedRemovedTiles != null && this.markedRemovedTiles.contains(key);
         }
 
         public boolean isStoredRemoval(final BlockPos pos) {
-            return this.removedTiles != null && this.removedTiles.containsKey(pos);
+            return this.removedTiles != null && this.removedTiles.containsKey(pos.toLong());
         }
 
-        void storeMarkedRemoval(final BlockPos pos) {
+        void storeMarkedRemoval(final long key) {
             if (this.markedRemovedTiles == null) {
-                this.markedRemovedTiles = new HashSet<>();
+                this.markedRemovedTiles = new LongOpenHashSet();
             }
-            this.markedRemovedTiles.add(pos);
+            this.markedRemovedTiles.add(key);
         }
 
         boolean hasRemovals() {
             return this.markedRemovedTiles != null && !this.markedRemovedTiles.isEmpty();
         }
 
-        void unmarkRemoval(final BlockPos pos) {
-            this.markedRemovedTiles.remove(pos);
+        void unmarkRemoval(final long key) {
+            this.markedRemovedTiles.remove(key);
         }
     }
 
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.event.tracking.phase.tick;
 
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 
@@ -33,6 +35,31 @@
         super(phaseState);
     }
 
+    @Override
+    public T buildAndSwitch() {
+        if (SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().isLiteTracking()) {
+            // Nothing would observe the captures, so don't make them
+            if (!ShouldFire.CHANGE_BLOCK_EVENT) {
+                this.setBulkBlockCaptures(false);
+                this.setBlockEvents(false);
+            }
+            if (!ShouldFire.SPAWN_ENTITY_EVENT) {
+                this.setBulkEntityCaptures(false);
+                this.setEntitySpawnEvents(false);
+            }
+        }
+        return super.buildAndSwitch();
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.setBulkBlockCaptures(true);
+        this.setBlockEvents(true);
+        this.setBulkEntityCaptures(true);
+        this.setEntitySpawnEvents(true);
+    }
+
     public static class General extends TickContext<General> {
 
         public General(final IPhaseState<? extends General> phaseState) {
@@ -130,7 +130,7 @@
 import org.spongepowered.common.world.SpongeDimension;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
-import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+import org.spongepowered.common.world.extent.worker.SpongeWorldBlockVolumeWorker;
 import org.spongepowered.common.world.pregen.SpongeChunkPreGenerateTask;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
@@ -588,7 +588,7 @@ public MutableBiomeVolumeWorker<World> getBiomeWorker() {
 
     @Override
     public MutableBlockVolumeWorker<World> getBlockWorker() {
-        return new SpongeMutableBlockVolumeWorker<>(this);
+        return new SpongeWorldBlockVolumeWorker<>(this, (net.minecraft.world.World) (Object) this);
     }
 
     @Override
@@ -76,7 +76,7 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
-import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+import org.spongepowered.common.world.extent.worker.SpongeWorldBlockVolumeWorker;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.util.ArrayList;
@@ -361,7 +361,7 @@ public MutableBiomeVolumeWorker<Chunk> getBiomeWorker() {
 
     @Override
     public MutableBlockVolumeWorker<Chunk> getBlockWorker() {
-        return new SpongeMutableBlockVolumeWorker<>(this);
+        return new SpongeWorldBlockVolumeWorker<>(this, this.world);
     }
 
     @Override
@@ -95,7 +95,6 @@
 import org.spongepowered.api.entity.EntityTypes;
 import org.spongepowered.api.entity.Transform;
 import org.spongepowered.api.entity.living.player.Player;
-import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.action.LightningEvent;
@@ -160,6 +159,7 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseMetrics;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.SpongeProxyBlockAccess;
@@ -1827,8 +1827,8 @@ public <T extends net.minecraft.entity.Entity> List<T> getEntitiesWithinAABB(fin
                 e.printStackTrace();
             }
         }
-        ((ChunkBridge) chunk).bridge$getBlockNotifier(pos).map(User::getUniqueId).ifPresent(builder::notifier);
-        ((ChunkBridge) chunk).bridge$getBlockOwner(pos).map(User::getUniqueId).ifPresent(builder::creator);
+        ((ChunkBridge) chunk).bridge$getBlockNotifierUUID(pos).ifPresent(builder::notifier);
+        ((ChunkBridge) chunk).bridge$getBlockOwnerUUID(pos).ifPresent(builder::creator);
         return builder.build();
     }
 
@@ -1936,6 +1936,13 @@ public Explosion newExplosion(@Nullable final net.minecraft.entity.Entity entity
         return this.proxyBlockAccess;
     }
 
+    private final PhaseMetrics impl$phaseMetrics = new PhaseMetrics();
+
+    @Override
+    public PhaseMetrics bridge$getPhaseMetrics() {
+        return this.impl$phaseMetrics;
+    }
+
     /**
      * @author gabizou - August 4th, 2016
      * @author blood - May 11th, 2017 - Forces chunk requests if TE is ticking.
@@ -25,11 +25,16 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLongArray;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
@@ -60,20 +65,20 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.mixin.core.nbt.NBTTagLongArrayAccessor;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.Constants;
-import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.ChunkSaveQueue;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Mixin(AnvilChunkLoader.class)
 public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
 
-    private ConcurrentLinkedQueue<QueuedChunk> impl$queue = new ConcurrentLinkedQueue<>();
+    private final ChunkSaveQueue impl$saveQueue = new ChunkSaveQueue(this::writeChunkData, this::impl$onChunkWritten);
     private final Object impl$lock = new Object();
 
     @Shadow @Final private static Logger LOGGER;
@@ -81,40 +86,42 @@ public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
 
-    @Shadow private void writeChunkData(final ChunkPos pos, final NBTTagCompound compound) { } // Shadow
+    @Shadow private void writeChunkData(final ChunkPos pos, final NBTTagCompound compound) throws IOException { } // Shadow
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     private void impl$writeSpongeOwnerNotifierPosTable(final net.minecraft.world.chunk.Chunk chunkIn, final World worldIn,
         final NBTTagCompound compound, final CallbackInfo ci) {
         final ChunkBridge chunk = (ChunkBridge) chunkIn;
 
-        // Add tracked block positions
-        if (chunk.bridge$getTrackedShortPlayerPositions().size() > 0 || chunk.bridge$getTrackedIntPlayerPositions().size() > 0) {
+        // Add tracked block positions as parallel key and packed index arrays
+        final Short2LongMap shortPositions = chunk.bridge$getTrackedShortPlayerPositions();
+        final Int2LongMap intPositions = chunk.bridge$getTrackedIntPlayerPositions();
+        if (!shortPositions.isEmpty() || !intPositions.isEmpty()) {
             final NBTTagCompound trackedNbt = new NBTTagCompound();
-            final NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
             compound.setTag(Constants.Sponge.SPONGE_DATA, trackedNbt);
 
-            for (final Map.Entry<Short, PlayerTracker> mapEntry : chunk.bridge$getTrackedShortPlayerPositions().entrySet()) {
-                final Short pos = mapEntry.getKey();
-                final int ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                final NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
+            if (!shortPositions.isEmpty()) {
+                final int[] keys = new int[shortPositions.size()];
+                final long[] values = new long[keys.length];
+                int i = 0;
+                for (final Short2LongMap.Entry entry : shortPositions.short2LongEntrySet()) {
+                    keys[i] = entry.getShortKey();
+                    values[i++] = entry.getLongValue();
+                }
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_SHORT_BLOCK_POS_KEYS, keys);
+                trackedNbt.setTag(Constants.Sponge.SPONGE_SHORT_BLOCK_POS_VALUES, new NBTTagLongArray(values));
             }
 
-            for (final Map.Entry<Integer, PlayerTracker> mapEntry : chunk.bridge$getTrackedIntPlayerPositions().entrySet()) {
-                final Integer pos = mapEntry.getKey();
-                final int ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                final NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
+            if (!intPositions.isEmpty()) {
+                final int[] keys = new int[intPositions.size()];
+                final long[] values = new long[keys.length];
+                int i = 0;
+                for (final Int2LongMap.Entry entry : intPositions.int2LongEntrySet()) {
+                    keys[i] = entry.getIntKey();
+                    values[i++] = entry.getLongValue();
+                }
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_INT_BLOCK_POS_KEYS, keys);
+                trackedNbt.setTag(Constants.Sponge.SPONGE_INT_BLOCK_POS_VALUES, new NBTTagLongArray(values));
             }
         }
     }
@@ -123,36 +130,59 @@ public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
     private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compound, final CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, final int chunkX,
       final int chunkZ, final net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(Constants.Sponge.SPONGE_DATA)) {
-            final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-            final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
-            final NBTTagList positions = compound.getCompoundTag(Constants.Sponge.SPONGE_DATA).getTagList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
-            final ChunkBridge chunk = (ChunkBridge) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                final boolean isShortPos = valueNbt.hasKey("pos");
-                final PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+            final NBTTagCompound spongeData = compound.getCompoundTag(Constants.Sponge.SPONGE_DATA);
+            final Int2LongMap trackedIntPlayerPositions = new Int2LongOpenHashMap();
+            final Short2LongMap trackedShortPlayerPositions = new Short2LongOpenHashMap();
+            if (spongeData.hasKey(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_LIST)) {
+                impl$readLegacyPosTable(spongeData.getTagList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND),
+                    trackedShortPlayerPositions, trackedIntPlayerPositions);
+            }
+            if (spongeData.hasKey(Constants.Sponge.SPONGE_SHORT_BLOCK_POS_VALUES, Constants.NBT.TAG_LONG_ARRAY)) {
+                final int[] keys = spongeData.getIntArray(Constants.Sponge.SPONGE_SHORT_BLOCK_POS_KEYS);
+                final long[] values = ((NBTTagLongArrayAccessor) spongeData.getTag(Constants.Sponge.SPONGE_SHORT_BLOCK_POS_VALUES)).accessor$getLongArray();
+                for (int i = 0; i < Math.min(keys.length, values.length); i++) {
+                    trackedShortPlayerPositions.put((short) keys[i], values[i]);
                 }
-
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
+            }
+            if (spongeData.hasKey(Constants.Sponge.SPONGE_INT_BLOCK_POS_VALUES, Constants.NBT.TAG_LONG_ARRAY)) {
+                final int[] keys = spongeData.getIntArray(Constants.Sponge.SPONGE_INT_BLOCK_POS_KEYS);
+                final long[] values = ((NBTTagLongArrayAccessor) spongeData.getTag(Constants.Sponge.SPONGE_INT_BLOCK_POS_VALUES)).accessor$getLongArray();
+                for (int i = 0; i < Math.min(keys.length, values.length); i++) {
+                    trackedIntPlayerPositions.put(keys[i], values[i]);
                 }
             }
+            final ChunkBridge chunk = (ChunkBridge) chunkIn;
             chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
             chunk.bridge$setTrackedShortPlayerPositions(trackedShortPlayerPositions);
         }
     }
 
+    // Migrates the compound-per-position table written by older versions
+    private static void impl$readLegacyPosTable(final NBTTagList positions, final Short2LongMap trackedShortPlayerPositions,
+        final Int2LongMap trackedIntPlayerPositions) {
+        for (int i = 0; i < positions.tagCount(); i++) {
+            final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+            int ownerIndex = -1;
+            int notifierIndex = -1;
+            if (valueNbt.hasKey("owner")) {
+                ownerIndex = valueNbt.getInteger("owner");
+            } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                ownerIndex = valueNbt.getInteger("uuid");
+            }
+            if (valueNbt.hasKey("notifier")) {
+                notifierIndex = valueNbt.getInteger("notifier");
+            }
+
+            if (notifierIndex != -1 || ownerIndex != -1) {
+                if (valueNbt.hasKey("pos")) {
+                    trackedShortPlayerPositions.put(valueNbt.getShort("pos"), PlayerTracker.pack(ownerIndex, notifierIndex));
+                } else {
+                    trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), PlayerTracker.pack(ownerIndex, notifierIndex));
+                }
+            }
+        }
+    }
+
     /**
      * @author gabizou - January 30th, 2016
      *
@@ -228,7 +258,7 @@ protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compou
         synchronized (this.impl$lock) {
             this.chunksToSave.put(pos, compound);
         }
-        this.impl$queue.add(new QueuedChunk(pos, compound));
+        this.impl$saveQueue.add(pos, compound);
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
@@ -236,65 +266,37 @@ protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compou
     /**
      * @author aikar - February 19th, 2017
      * @reason Refactor entire method for chunk queue improvements.
-     * @return Whether write was successful
+     *
+     * <p>Chunks are compressed and written by the save threads of the
+     * {@link ChunkSaveQueue}, this only hands pending regions to them.</p>
+     *
+     * @return Whether chunks are still pending or being written
      */
     @Overwrite
     public boolean writeNextIO() {
-        final QueuedChunk chunk = this.impl$queue.poll();
-        if (chunk == null) {
-            if (this.flushing) {
-                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
-            }
-
-            return false;
-        } else {
-            final ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
-
-            try {
-                // this.field_193415_c.add(chunkpos);
-                final NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
-                }
+        if (this.impl$saveQueue.dispatch()) {
+            return true;
+        }
+        if (this.flushing) {
+            LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+        }
+        return false;
+    }
 
-                synchronized (this.impl$lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
-                    }
-                }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
-            } finally {
-                // this.field_193415_c.remove(chunkpos);
+    private void impl$onChunkWritten(final ChunkPos pos, final NBTTagCompound compound) {
+        synchronized (this.impl$lock) {
+            // Sponge - This will not equal if a newer version is still pending
+            if (this.chunksToSave.get(pos) == compound) {
+                this.chunksToSave.remove(pos);
             }
-
-            return lvt_3_1_;
         }
     }
 
+    @Override
+    public ChunkSaveQueue bridge$getSaveQueue() {
+        return this.impl$saveQueue;
+    }
+
     @Override
     public Path bridge$getWorldDir() {
         return this.chunkSaveLocation.toPath();
@@ -61,14 +61,15 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
+import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 import org.spongepowered.common.world.SpongeEmptyChunk;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
@@ -81,6 +82,7 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
     private boolean impl$forceChunkRequests = false;
     private long impl$chunkUnloadDelay = Constants.World.DEFAULT_CHUNK_UNLOAD_DELAY;
     private int impl$maxChunkUnloads = Constants.World.MAX_CHUNK_UNLOADS;
+    private final ChunkUnloadQueue impl$unloadQueue = new ChunkUnloadQueue();
 
     @Shadow @Final private WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -119,6 +121,11 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
         return this.loadedChunks;
     }
 
+    @Override
+    public IChunkLoader accessor$getChunkLoader() {
+        return this.chunkLoader;
+    }
+
     @Override
     public IChunkGenerator accessor$getChunkGenerator() {
         return this.chunkGenerator;
@@ -143,6 +150,12 @@ public void queueUnload(final Chunk chunkIn)
             // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.x, chunkIn.z)));
             chunkIn.unloadQueued = true;
+            // Sponge start - index the chunk by the time it may unload at, so tick only visits due chunks
+            final long deadline = this.impl$chunkUnloadDelay > 0
+                                  ? ((ChunkBridge) chunkIn).bridge$getScheduledForUnload() + this.impl$chunkUnloadDelay
+                                  : Long.MIN_VALUE;
+            this.impl$unloadQueue.offer(ChunkPos.asLong(chunkIn.x, chunkIn.z), deadline);
+            // Sponge end
         }
     }
 
@@ -262,6 +275,11 @@ public void queueUnload(final Chunk chunkIn)
      * simply looping through all loaded chunks and determining whether it
      * can unload or not.
      *
+     * <p>Chunks are taken from the unload queue in the order of their
+     * unload deadline instead, so only chunks that are due are visited.
+     * Queued chunks that became active again are dropped from the queue
+     * here.</p>
+     *
      * @return true if unload queue was processed
      */
     @Overwrite
@@ -269,28 +287,37 @@ public boolean tick()
     {
         if (!this.world.disableLevelSaving && !((WorldBridge) this.world).bridge$isFake())
         {
-            ((WorldServerBridge) this.world).bridge$getTimingsHandler().doChunkUnload.startTiming();
-            final Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
+            final WorldTimingsHandler timings = ((WorldServerBridge) this.world).bridge$getTimingsHandler();
+            timings.doChunkUnload.startTiming();
             int chunksUnloaded = 0;
             final long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.impl$maxChunkUnloads && iterator.hasNext()) {
-                final Chunk chunk = iterator.next();
+            while (chunksUnloaded < this.impl$maxChunkUnloads && this.impl$unloadQueue.hasDue(now)) {
+                final long key = this.impl$unloadQueue.poll();
+                final Chunk chunk = this.loadedChunks.get(key);
+                if (chunk == null || !chunk.unloadQueued) {
+                    continue;
+                }
                 final ChunkBridge spongeChunk = (ChunkBridge) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.bridge$isPersistedChunk()) {
-                    if (this.bridge$getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.bridge$getScheduledForUnload()) < this.impl$chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.bridge$setScheduledForUnload(-1);
+                if (spongeChunk.bridge$isPersistedChunk()) {
+                    continue;
+                }
+                if (this.bridge$getChunkUnloadDelay() > 0) {
+                    // The unload may have been rescheduled since the chunk was queued
+                    final long scheduled = spongeChunk.bridge$getScheduledForUnload();
+                    if ((now - scheduled) < this.impl$chunkUnloadDelay) {
+                        this.impl$unloadQueue.offer(key, scheduled + this.impl$chunkUnloadDelay);
+                        continue;
                     }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+                    spongeChunk.bridge$setScheduledForUnload(-1);
                 }
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.loadedChunks.remove(key);
+                chunksUnloaded++;
             }
-            ((WorldServerBridge) this.world).bridge$getTimingsHandler().doChunkUnload.stopTiming();
+            timings.recordChunkUnloads(this.impl$unloadQueue.size(), chunksUnloaded);
+            timings.doChunkUnload.stopTiming();
         }
 
         this.chunkLoader.chunkTick();
@@ -42,6 +42,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.asm.util.PrettyPrinter;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.storage.SaveHandlerBridge;
 import org.spongepowered.common.data.util.DataUtil;
@@ -112,6 +113,8 @@ private String modifyMinecraftExceptionOutputIfIOException(final String message)
                 return;
             }
 
+            this.impl$saveUniqueIdTable(worldInformation);
+
             final File newDataFile = new File(this.worldDirectory, Constants.Sponge.World.LEVEL_SPONGE_DAT_NEW);
             final File oldDataFile = new File(this.worldDirectory, Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD);
             final File dataFile = new File(this.worldDirectory, Constants.Sponge.World.LEVEL_SPONGE_DAT);
@@ -160,8 +163,29 @@ private String modifyMinecraftExceptionOutputIfIOException(final String message)
         }
     }
 
+    private void impl$saveUniqueIdTable(final WorldInfo worldInformation) {
+        final Path tableFile = this.worldDirectory.toPath().resolve(Constants.Sponge.World.LEVEL_SPONGE_UNIQUE_IDS);
+        try {
+            ((WorldInfoBridge) worldInformation).bridge$getUniqueIdTable().save(tableFile);
+        } catch (IOException e) {
+            // Unsaved entries are kept and written with the next save
+            SpongeImpl.getLogger().error("Could not save the unique id table for world {} to {}", worldInformation.getWorldName(), tableFile, e);
+        }
+    }
+
     @Override
     public void bridge$loadSpongeDatData(final WorldInfo info) {
+        // Load the unique id table first, it takes precedence over the copy older versions kept in level_sponge.dat
+        final Path tableFile = this.worldDirectory.toPath().resolve(Constants.Sponge.World.LEVEL_SPONGE_UNIQUE_IDS);
+        if (Files.exists(tableFile)) {
+            try {
+                ((WorldInfoBridge) info).bridge$getUniqueIdTable().load(tableFile);
+            } catch (IOException ex) {
+                throw new RuntimeException("Attempt failed when reading the unique id table for [" + info.getWorldName() + "] from file [" +
+                        tableFile.getFileName() + "]!", ex);
+            }
+        }
+
         final File spongeFile = new File(this.worldDirectory, Constants.Sponge.World.LEVEL_SPONGE_DAT);
         final File spongeOldFile = new File(this.worldDirectory, Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD);
 
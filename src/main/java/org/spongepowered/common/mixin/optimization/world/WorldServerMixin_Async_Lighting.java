@@ -42,10 +42,13 @@
 import org.spongepowered.common.bridge.util.math.BlockPosBridge;
 import org.spongepowered.common.mixin.core.world.WorldMixin;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.lighting.AsyncLightingMetrics;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.annotation.Nullable;
 
@@ -54,6 +57,9 @@ public abstract class WorldServerMixin_Async_Lighting extends WorldMixin impleme
 
     private ExecutorService asyncLightingImpl$lightExecutorService =
                 Executors.newFixedThreadPool(SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private final int asyncLightingImpl$maxQueuedUpdates =
+                SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory().getMaxQueuedUpdates();
+    private final AsyncLightingMetrics asyncLightingImpl$metrics = new AsyncLightingMetrics();
 
     @Override
     public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
@@ -62,12 +68,27 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
 
     @Override
     public boolean asyncLightingBridge$checkLightAsync(
+        final EnumSkyBlock lightType, final BlockPos pos, final net.minecraft.world.chunk.Chunk currentChunk, final List<Chunk> neighbors) {
+        this.asyncLightingImpl$checkLight(lightType, pos, currentChunk, neighbors);
+
+        // Sponge start - Asynchronous light updates
+        final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) currentChunk;
+        spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).remove(this.asyncLightingImpl$blockPosToShort(pos));
+        spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
+            neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        }
+        // Sponge end
+        return true;
+    }
+
+    private void asyncLightingImpl$checkLight(
         final EnumSkyBlock lightType, final BlockPos pos, final net.minecraft.world.chunk.Chunk currentChunk, final List<Chunk> neighbors) {
         // Sponge - This check is not needed as neighbors are checked in bridge$updateLightAsync
         if (false && !this.isAreaLoaded(pos, 17, false)) {
-            return false;
+            return;
         } else {
-            final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) currentChunk;
             int i = 0;
             int j = 0;
             //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
@@ -182,17 +203,7 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
                 }
             }
 
-            // Sponge start - Asynchronous light updates
-            spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).remove((Short) this.asyncLightingImpl$blockPosToShort(pos));
-            spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
-            for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
-                neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
-            }
-
-            // Sponge end
             //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
-            return true;
         }
     }
 
@@ -212,15 +223,63 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         }
 
         final short shortPos = this.asyncLightingImpl$blockPosToShort(pos);
-        if (spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        // Atomically marks the position as queued, so it can't be queued twice
+        if (!spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).add(shortPos)) {
             return false;
         }
 
         final Chunk chunk = currentChunk;
-        spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).add(shortPos);
+        final long worldTime = chunk.getWorld().getTotalWorldTime();
         spongeChunk.asyncLightingBridge$getPendingLightUpdates().incrementAndGet();
-        spongeChunk.asyncLightingBridge$setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
+        spongeChunk.asyncLightingBridge$setLightUpdateTime(worldTime);
+
+        // Already on a lighting thread, or the lighting threads are too far behind to take more work:
+        // run the check on the calling thread rather than letting the queue grow without bound.
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() || this.asyncLightingImpl$isQueueFull()) {
+            final List<Chunk> neighbors = this.asyncLightingImpl$retainNeighbors(spongeChunk, worldTime);
+            this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
+            this.asyncLightingImpl$metrics.onProcessedInline();
+            return true;
+        }
+
+        final LightUpdateBatch batch = spongeChunk.asyncLightingBridge$getLightUpdateBatch();
+        batch.add(LightUpdateBatch.pack(lightType, shortPos), System.nanoTime());
+        this.asyncLightingImpl$metrics.onQueued();
+        if (!batch.trySchedule()) {
+            // The chunk's job will pick this check up, just keep its neighbors from unloading in the meantime
+            for (final Chunk neighborChunk : batch.getNeighbors()) {
+                ((ChunkBridge_AsyncLighting) neighborChunk).asyncLightingBridge$setLightUpdateTime(worldTime);
+            }
+            return true;
+        }
+
+        final List<Chunk> neighbors = this.asyncLightingImpl$retainNeighbors(spongeChunk, worldTime);
+        batch.setNeighbors(neighbors);
+        try {
+            this.asyncLightingImpl$lightExecutorService.execute(() -> this.asyncLightingImpl$drainBatch(chunk, batch, neighbors));
+        } catch (RejectedExecutionException e) {
+            // This could happen if ServerHangWatchdog kills the server
+            // between the start of the method and the execute() call.
+            if (!this.getMinecraftServer().isServerStopped() && !this.asyncLightingImpl$lightExecutorService.isShutdown()) {
+                throw e;
+            }
+            this.asyncLightingImpl$discardBatch(spongeChunk, batch, neighbors);
+        }
+
+        return true;
+    }
+
+    private boolean asyncLightingImpl$isQueueFull() {
+        return this.asyncLightingImpl$maxQueuedUpdates > 0 && this.asyncLightingImpl$metrics.getQueued() >= this.asyncLightingImpl$maxQueuedUpdates;
+    }
 
+    /**
+     * Gets the neighbors of a chunk, including diagonals, and marks each of
+     * them as having a pending light update so they are not unloaded while
+     * the update runs. Each retain must be balanced by decrementing the
+     * pending light updates of the returned neighbors.
+     */
+    private List<Chunk> asyncLightingImpl$retainNeighbors(final ChunkBridge_AsyncLighting spongeChunk, final long worldTime) {
         final List<Chunk> neighbors = spongeChunk.bridge$getNeighbors();
 
         // add diagonal chunks
@@ -250,19 +309,73 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
             final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
             neighbor.asyncLightingBridge$getPendingLightUpdates().incrementAndGet();
-            neighbor.asyncLightingBridge$setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
+            neighbor.asyncLightingBridge$setLightUpdateTime(worldTime);
         }
+        return neighbors;
+    }
 
-        //System.out.println("size = " + ((ThreadPoolExecutor) this.asyncLightingImpl$lightExecutorService).getQueue().size());
-        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.asyncLightingImpl$lightExecutorService.execute(() -> {
-                this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
-            });
-        } else {
-            this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
+    /**
+     * Runs every light check queued in a chunk's batch, in the order they
+     * were queued, until the batch is empty. Checks queued while the batch
+     * is being drained are picked up by the same job.
+     */
+    private void asyncLightingImpl$drainBatch(final Chunk chunk, final LightUpdateBatch batch, final List<Chunk> neighbors) {
+        final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) chunk;
+        final int chunkX = chunk.x << 4;
+        final int chunkZ = chunk.z << 4;
+        int drained;
+        while ((drained = batch.drain()) > 0) {
+            this.asyncLightingImpl$metrics.onBatch();
+            final int[] entries = batch.getDrainedEntries();
+            final long[] queueTimes = batch.getDrainedQueueTimes();
+            for (int i = 0; i < drained; i++) {
+                final EnumSkyBlock lightType = LightUpdateBatch.unpackType(entries[i]);
+                final short shortPos = LightUpdateBatch.unpackPos(entries[i]);
+                if (!this.asyncLightingImpl$lightExecutorService.isShutdown()) {
+                    final BlockPos pos = new BlockPos(chunkX + (shortPos & Constants.Chunk.XZ_MASK),
+                        shortPos >> Constants.Chunk.NUM_XZ_BITS & Constants.Chunk.Y_SHORT_MASK,
+                        chunkZ + (shortPos >> 12 & Constants.Chunk.XZ_MASK));
+                    try {
+                        this.asyncLightingImpl$checkLight(lightType, pos, chunk, neighbors);
+                    } catch (Exception e) {
+                        SpongeImpl.getLogger().error("Exception while checking light at {} in world {}", pos, this.getWorldInfo().getWorldName(), e);
+                    }
+                }
+                spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).remove(shortPos);
+                spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+                this.asyncLightingImpl$metrics.onProcessed(queueTimes[i], System.nanoTime());
+            }
         }
 
-        return true;
+        for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
+            neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        }
+    }
+
+    /**
+     * Drops every check queued in a batch whose job could not be scheduled,
+     * balancing the pending light updates and metrics the checks and the
+     * retained neighbors account for. Draining until empty releases the
+     * claim on the batch.
+     */
+    private void asyncLightingImpl$discardBatch(final ChunkBridge_AsyncLighting spongeChunk, final LightUpdateBatch batch,
+        final List<Chunk> neighbors) {
+        int drained;
+        while ((drained = batch.drain()) > 0) {
+            final int[] entries = batch.getDrainedEntries();
+            for (int i = 0; i < drained; i++) {
+                spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(LightUpdateBatch.unpackType(entries[i]))
+                    .remove(LightUpdateBatch.unpackPos(entries[i]));
+                spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+            }
+            this.asyncLightingImpl$metrics.onDiscarded(drained);
+        }
+
+        for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
+            neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        }
     }
 
     @Override
@@ -270,6 +383,11 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         return this.asyncLightingImpl$lightExecutorService;
     }
 
+    @Override
+    public AsyncLightingMetrics asyncLightingBridge$getLightingMetrics() {
+        return this.asyncLightingImpl$metrics;
+    }
+
     // Thread safe methods to retrieve a chunk during async light updates
     // Each method avoids calling getLoadedChunk and instead accesses the passed neighbor chunk list to avoid concurrency issues
     private Chunk asyncLightingImpl$getLightChunk(final BlockPos pos, final Chunk currentChunk, final List<Chunk> neighbors) {
@@ -46,12 +46,12 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
+import org.spongepowered.common.util.ConcurrentShortBitSet;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -63,9 +63,11 @@
 public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLighting {
 
     // Keeps track of block positions in this chunk currently queued for sky light update
-    private Set<Short> asyncLighting$queuedSkyLightingUpdates = ConcurrentHashMap.newKeySet();
+    private final ConcurrentShortBitSet asyncLighting$queuedSkyLightingUpdates = new ConcurrentShortBitSet();
     // Keeps track of block positions in this chunk currently queued for block light update
-    private Set<Short> asyncLighting$queuedBlockLightingUpdates = ConcurrentHashMap.newKeySet();
+    private final ConcurrentShortBitSet asyncLighting$queuedBlockLightingUpdates = new ConcurrentShortBitSet();
+    // Light checks in this chunk waiting for the lighting executor, drained by a single job at a time
+    private final LightUpdateBatch asyncLighting$lightUpdateBatch = new LightUpdateBatch();
     private AtomicInteger asyncLighting$pendingLightUpdates = new AtomicInteger();
     private long asyncLighting$lightUpdateTime;
     private ExecutorService asyncLighting$lightExecutorService;
@@ -708,10 +710,15 @@ else if (flag && k == 0 && !this.asyncLighting$checkWorldLight(blockpos$mutableb
      * @return The list of queued block positions, empty if none
      */
     @Override
-    public Set<Short> asyncLightingBridge$getQueuedLightingUpdates(final EnumSkyBlock type) {
+    public ConcurrentShortBitSet asyncLightingBridge$getQueuedLightingUpdates(final EnumSkyBlock type) {
         if (type == EnumSkyBlock.SKY) {
             return this.asyncLighting$queuedSkyLightingUpdates;
         }
         return this.asyncLighting$queuedBlockLightingUpdates;
     }
+
+    @Override
+    public LightUpdateBatch asyncLightingBridge$getLightUpdateBatch() {
+        return this.asyncLighting$lightUpdateBatch;
+    }
 }
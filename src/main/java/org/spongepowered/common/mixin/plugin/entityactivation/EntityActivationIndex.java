@@ -0,0 +1,190 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.common.bridge.entity.EntityBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A per tick spatial index of the activation volumes of all players in a
+ * world. Every loaded chunk within the maximum activation range of at least
+ * one player is visited exactly once, and its entities are only tested
+ * against the players whose volume covers that chunk, instead of scanning
+ * the chunks around each player separately.
+ *
+ * <p>The index is only ever used from the server thread, and keeps its
+ * buffers between ticks so building it doesn't allocate once warmed up.</p>
+ */
+final class EntityActivationIndex {
+
+    // The vertical activation range, the same for all activation types
+    private static final int VERTICAL_RANGE = 256;
+    private static final int BOUNDS = 6;
+
+    // The player indices whose maximum activation volume covers the chunk, by chunk key
+    private final Long2ObjectOpenHashMap<IntArrayList> playersByChunk = new Long2ObjectOpenHashMap<>();
+    private final ArrayDeque<IntArrayList> pool = new ArrayDeque<>();
+    // The bounding boxes of the players, as minX, minY, minZ, maxX, maxY, maxZ
+    private double[] playerBounds = new double[BOUNDS * 16];
+
+    /**
+     * Builds the index for the players in the world, replacing the
+     * previous contents.
+     *
+     * @param players The players
+     * @param maxRange The maximum activation range of any entity type
+     * @param currentTick The current server tick
+     */
+    void build(final List<EntityPlayer> players, final int maxRange, final long currentTick) {
+        this.clear();
+        if (this.playerBounds.length < players.size() * BOUNDS) {
+            this.playerBounds = Arrays.copyOf(this.playerBounds, players.size() * BOUNDS * 2);
+        }
+        for (int index = 0; index < players.size(); index++) {
+            final EntityPlayer player = players.get(index);
+            ((ActivationCapability) player).activation$setActivatedTick(currentTick);
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+            final int offset = index * BOUNDS;
+            this.playerBounds[offset] = bb.minX;
+            this.playerBounds[offset + 1] = bb.minY;
+            this.playerBounds[offset + 2] = bb.minZ;
+            this.playerBounds[offset + 3] = bb.maxX;
+            this.playerBounds[offset + 4] = bb.maxY;
+            this.playerBounds[offset + 5] = bb.maxZ;
+
+            final int minChunkX = MathHelper.floor((bb.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor((bb.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor((bb.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((bb.maxZ + maxRange) / 16.0D);
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    final long key = ChunkPos.asLong(chunkX, chunkZ);
+                    IntArrayList list = this.playersByChunk.get(key);
+                    if (list == null) {
+                        list = this.pool.isEmpty() ? new IntArrayList(4) : this.pool.pop();
+                        this.playersByChunk.put(key, list);
+                    }
+                    list.add(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Activates the entities within the activation range of any player,
+     * testing each entity only once.
+     *
+     * @param world The world the index was built for
+     * @param currentTick The current server tick
+     */
+    void activateEntities(final WorldServer world, final long currentTick) {
+        final ChunkProviderBridge chunkProvider = (ChunkProviderBridge) world.getChunkProvider();
+        for (final Long2ObjectMap.Entry<IntArrayList> entry : this.playersByChunk.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final Chunk chunk = chunkProvider.bridge$getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                this.activateChunkEntities(chunk, entry.getValue(), currentTick);
+            }
+        }
+    }
+
+    private void activateChunkEntities(final Chunk chunk, final IntArrayList players, final long currentTick) {
+        final int[] playerIndices = players.elements();
+        final int size = players.size();
+        for (int i = 0; i < chunk.getEntityLists().length; ++i) {
+            for (final Entity entity : chunk.getEntityLists()[i]) {
+                final ActivationCapability spongeEntity = (ActivationCapability) entity;
+                if (!((EntityBridge) entity).bridge$shouldTick()) {
+                    continue;
+                }
+                final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
+                if (type == EntityTypes.UNKNOWN) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                    continue;
+                }
+                if (currentTick <= spongeEntity.activation$getActivatedTick()) {
+                    continue;
+                }
+                if (spongeEntity.activation$getDefaultActivationState()) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                    continue;
+                }
+
+                // check if activation cache needs to be updated
+                if (spongeEntity.activation$requiresActivationCacheRefresh()) {
+                    EntityActivationRange.initializeEntityActivationState(entity);
+                    spongeEntity.activation$requiresActivationCacheRefresh(false);
+                }
+                final int range = spongeEntity.activation$getActivationRange();
+                final AxisAlignedBB bb = entity.getEntityBoundingBox();
+                for (int j = 0; j < size; j++) {
+                    if (this.intersects(playerIndices[j], bb, range)) {
+                        spongeEntity.activation$setActivatedTick(currentTick);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the bounding box of the player grown by the activation
+     * range intersects the bounding box, the same test as growing the
+     * player box and calling {@link AxisAlignedBB#intersects(AxisAlignedBB)}.
+     */
+    private boolean intersects(final int player, final AxisAlignedBB bb, final int range) {
+        final int offset = player * BOUNDS;
+        final double[] bounds = this.playerBounds;
+        return bb.maxX > bounds[offset] - range && bb.minX < bounds[offset + 3] + range
+            && bb.maxY > bounds[offset + 1] - VERTICAL_RANGE && bb.minY < bounds[offset + 4] + VERTICAL_RANGE
+            && bb.maxZ > bounds[offset + 2] - range && bb.minZ < bounds[offset + 5] + range;
+    }
+
+    void clear() {
+        for (final IntArrayList list : this.playersByChunk.values()) {
+            list.clear();
+            this.pool.push(list);
+        }
+        this.playersByChunk.clear();
+    }
+
+}
@@ -24,6 +24,14 @@
  */
 package org.spongepowered.common.mixin.tracking.world;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.entity.player.EntityPlayer;
@@ -32,11 +40,8 @@
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.Level;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.entity.living.player.User;
-import org.spongepowered.api.profile.GameProfile;
-import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -53,14 +58,12 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.TrackedUserCache;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
-import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
-import org.spongepowered.common.util.SpongeUsernameCache;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -77,17 +80,8 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
     @Shadow @Final private Map<BlockPos, TileEntity> tileEntities;
 
 
-    @Nullable private UserStorageService trackerImpl$userStorageService;
-    private Map<Integer, PlayerTracker> trackerImpl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> trackerImpl$trackedShortBlockPositions = new HashMap<>();
-
-    @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"))
-    private void tracker$setUpUserService(@Nullable final World worldIn, final int x, final int z, final CallbackInfo ci) {
-        this.trackerImpl$userStorageService = worldIn != null && !((WorldBridge) worldIn).bridge$isFake()
-                                  ? null
-                                  : SpongeImpl.getGame().getServiceManager().provideUnchecked(UserStorageService.class);
-
-    }
+    private Int2LongMap trackerImpl$trackedIntBlockPositions = trackerImpl$newIntTable();
+    private Short2LongMap trackerImpl$trackedShortBlockPositions = trackerImpl$newShortTable();
 
     @Override
     public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) {
@@ -132,42 +126,23 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
 
         final WorldInfoBridge worldInfo = (WorldInfoBridge) this.world.getWorldInfo();
         final int indexForUniqueId = worldInfo.bridge$getIndexForUniqueId(user.getUniqueId());
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+        final long existing = this.tracker$getTrackedIndices(pos);
+        if (existing == PlayerTracker.ABSENT) {
+            this.tracker$setTrackedIndices(pos, PlayerTracker.pack(indexForUniqueId, trackerType));
+        } else if (trackerType == PlayerTracker.Type.OWNER) {
+            this.tracker$setTrackedIndices(pos, PlayerTracker.pack(indexForUniqueId, indexForUniqueId));
         } else {
-            final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+            this.tracker$setTrackedIndices(pos, PlayerTracker.pack(PlayerTracker.ownerIndex(existing), indexForUniqueId));
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
+    public Int2LongMap bridge$getTrackedIntPlayerPositions() {
         return this.trackerImpl$trackedIntBlockPositions;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
+    public Short2LongMap bridge$getTrackedShortPlayerPositions() {
         return this.trackerImpl$trackedShortBlockPositions;
     }
 
@@ -176,21 +151,11 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return Optional.empty();
         }
-        final int intKey = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUser(intKey, notifierIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int notifierIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUser(shortKey, notifierIndex);
-            }
+        final long indices = this.tracker$getTrackedIndices(pos);
+        if (indices == PlayerTracker.ABSENT) {
+            return Optional.empty();
         }
-
-        return Optional.empty();
+        return this.tracker$getValidatedUser(pos, PlayerTracker.ownerIndex(indices));
     }
 
     @Override
@@ -198,21 +163,11 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return Optional.empty();
         }
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUUID(key, ownerIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUUID(shortKey, ownerIndex);
-            }
+        final long indices = this.tracker$getTrackedIndices(pos);
+        if (indices == PlayerTracker.ABSENT) {
+            return Optional.empty();
         }
-
-        return Optional.empty();
+        return this.tracker$getValidatedUUID(pos, PlayerTracker.ownerIndex(indices));
     }
 
     @Override
@@ -220,19 +175,11 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return Optional.empty();
         }
-        final int intKey = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUser(intKey, intTracker.notifierIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUser(shortKey, shortTracker.notifierIndex);
-            }
+        final long indices = this.tracker$getTrackedIndices(pos);
+        if (indices == PlayerTracker.ABSENT) {
+            return Optional.empty();
         }
-
-        return Optional.empty();
+        return this.tracker$getValidatedUser(pos, PlayerTracker.notifierIndex(indices));
     }
 
     @Override
@@ -240,23 +187,38 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return Optional.empty();
         }
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUUID(key, intTracker.notifierIndex);
+        final long indices = this.tracker$getTrackedIndices(pos);
+        if (indices == PlayerTracker.ABSENT) {
+            return Optional.empty();
+        }
+        return this.tracker$getValidatedUUID(pos, PlayerTracker.notifierIndex(indices));
+    }
+
+    private long tracker$getTrackedIndices(final BlockPos pos) {
+        if (pos.getY() <= 255) {
+            return this.trackerImpl$trackedShortBlockPositions.get(Constants.Sponge.blockPosToShort(pos));
+        }
+        return this.trackerImpl$trackedIntBlockPositions.get(Constants.Sponge.blockPosToInt(pos));
+    }
+
+    private void tracker$setTrackedIndices(final BlockPos pos, final long indices) {
+        if (pos.getY() <= 255) {
+            this.trackerImpl$trackedShortBlockPositions.put(Constants.Sponge.blockPosToShort(pos), indices);
         } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUUID(shortKey, shortTracker.notifierIndex);
-            }
+            this.trackerImpl$trackedIntBlockPositions.put(Constants.Sponge.blockPosToInt(pos), indices);
         }
+    }
 
-        return Optional.empty();
+    private void tracker$removeTrackedIndices(final BlockPos pos) {
+        if (pos.getY() <= 255) {
+            this.trackerImpl$trackedShortBlockPositions.remove(Constants.Sponge.blockPosToShort(pos));
+        } else {
+            this.trackerImpl$trackedIntBlockPositions.remove(Constants.Sponge.blockPosToInt(pos));
+        }
     }
 
-    private Optional<User> tracker$getValidatedUser(final int key, final int ownerIndex) {
-        final Optional<UUID> uuid = this.tracker$getValidatedUUID(key, ownerIndex);
+    private Optional<User> tracker$getValidatedUser(final BlockPos pos, final int ownerIndex) {
+        final Optional<UUID> uuid = this.tracker$getValidatedUUID(pos, ownerIndex);
         if (uuid.isPresent()) {
             final UUID userUniqueId = uuid.get();
             // get player if online
@@ -264,18 +226,18 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
             if (player != null) {
                 return Optional.of((User) player);
             }
-            // player is not online, get or create user from storage
-            return this.tracker$getUserFromId(userUniqueId);
+            // player is not online, use the user if it has been loaded already
+            return TrackedUserCache.getIfResolved(userUniqueId);
         }
         return Optional.empty();
     }
 
-    private Optional<UUID> tracker$getValidatedUUID(final int key, final int ownerIndex) {
+    private Optional<UUID> tracker$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
         final UUID uuid = (((WorldInfoBridge) this.world.getWorldInfo()).bridge$getUniqueIdForIndex(ownerIndex)).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getInvalidLookupUuids().contains(uuid)) {
-                this.trackerImpl$trackedIntBlockPositions.remove(key);
+                this.tracker$removeTrackedIndices(pos);
                 return Optional.empty();
             }
             // player is not online, get or create user from storage
@@ -284,51 +246,16 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         return Optional.empty();
     }
 
-    private Optional<User> tracker$getUserFromId(final UUID uuid) {
-        // check username cache
-        final String username = SpongeUsernameCache.getLastKnownUsername(uuid);
-        if (username != null && this.trackerImpl$userStorageService != null) {
-            return this.trackerImpl$userStorageService.get(GameProfile.of(uuid, username));
-        }
-
-        // check mojang cache
-        final GameProfile profile = Sponge.getServer().getGameProfileManager().getCache().getById(uuid).orElse(null);
-        if (profile != null && this.trackerImpl$userStorageService != null) {
-            return this.trackerImpl$userStorageService.get(profile);
-        }
-
-        // If we reach this point, queue UUID for async lookup and return empty
-        ((SpongeProfileManager) Sponge.getServer().getGameProfileManager()).lookupUserAsync(uuid);
-        return Optional.empty();
-    }
-
     // Special setter used by API
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return;
         }
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        } else {
-            final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        }
+        final int index = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
+        final long existing = this.tracker$getTrackedIndices(pos);
+        final int ownerIndex = existing == PlayerTracker.ABSENT ? -1 : PlayerTracker.ownerIndex(existing);
+        this.tracker$setTrackedIndices(pos, PlayerTracker.pack(ownerIndex, index));
     }
 
     // Special setter used by API
@@ -337,37 +264,36 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return;
         }
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        } else {
-            final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        }
+        final int index = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
+        final long existing = this.tracker$getTrackedIndices(pos);
+        final int notifierIndex = existing == PlayerTracker.ABSENT ? -1 : PlayerTracker.notifierIndex(existing);
+        this.tracker$setTrackedIndices(pos, PlayerTracker.pack(index, notifierIndex));
     }
 
     @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
+    public void bridge$setTrackedIntPlayerPositions(final Int2LongMap trackedPositions) {
+        trackedPositions.defaultReturnValue(PlayerTracker.ABSENT);
         this.trackerImpl$trackedIntBlockPositions = trackedPositions;
     }
 
     @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
+    public void bridge$setTrackedShortPlayerPositions(final Short2LongMap trackedPositions) {
+        trackedPositions.defaultReturnValue(PlayerTracker.ABSENT);
         this.trackerImpl$trackedShortBlockPositions = trackedPositions;
     }
 
+    private static Int2LongMap trackerImpl$newIntTable() {
+        final Int2LongMap table = new Int2LongOpenHashMap();
+        table.defaultReturnValue(PlayerTracker.ABSENT);
+        return table;
+    }
+
+    private static Short2LongMap trackerImpl$newShortTable() {
+        final Short2LongMap table = new Short2LongOpenHashMap();
+        table.defaultReturnValue(PlayerTracker.ABSENT);
+        return table;
+    }
+
     @Inject(method = "onLoad", at = @At("HEAD"))
     private void trackerImpl$startLoad(final CallbackInfo callbackInfo) {
         final boolean isFake = ((WorldBridge) this.world).bridge$isFake();
@@ -405,6 +331,31 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
             }
             // IF we're not on the main thread,
             PhaseTracker.getInstance().getCurrentContext().close();
+            this.tracker$prefetchTrackedUsers();
+        }
+    }
+
+    private void tracker$prefetchTrackedUsers() {
+        if (this.trackerImpl$trackedShortBlockPositions.isEmpty() && this.trackerImpl$trackedIntBlockPositions.isEmpty()) {
+            return;
+        }
+        final IntSet indices = new IntOpenHashSet();
+        for (final LongIterator it = this.trackerImpl$trackedShortBlockPositions.values().iterator(); it.hasNext(); ) {
+            final long packed = it.nextLong();
+            indices.add(PlayerTracker.ownerIndex(packed));
+            indices.add(PlayerTracker.notifierIndex(packed));
+        }
+        for (final LongIterator it = this.trackerImpl$trackedIntBlockPositions.values().iterator(); it.hasNext(); ) {
+            final long packed = it.nextLong();
+            indices.add(PlayerTracker.ownerIndex(packed));
+            indices.add(PlayerTracker.notifierIndex(packed));
+        }
+        final WorldInfoBridge worldInfo = (WorldInfoBridge) this.world.getWorldInfo();
+        for (final IntIterator it = indices.iterator(); it.hasNext(); ) {
+            final int index = it.nextInt();
+            if (index != -1) {
+                worldInfo.bridge$getUniqueIdForIndex(index).ifPresent(TrackedUserCache::prefetch);
+            }
         }
     }
 
@@ -37,6 +37,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.OwnershipTrackedBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.entity.TrackedUserCache;
 
 import java.util.Optional;
 
@@ -81,8 +82,8 @@ public static void handleRequest(MessageTrackerDataRequest message, RemoteConnec
 
         if (message.type == 0) { // block
             ChunkBridge spongeChunk = (ChunkBridge) sender.world.getChunk(pos);
-            owner = spongeChunk.bridge$getBlockOwner(pos);
-            notifier = spongeChunk.bridge$getBlockNotifier(pos);
+            owner = spongeChunk.bridge$getBlockOwnerUUID(pos).flatMap(TrackedUserCache::get);
+            notifier = spongeChunk.bridge$getBlockNotifierUUID(pos).flatMap(TrackedUserCache::get);
         } else if (message.type == 1) { // entity
             Entity entity = sender.world.getEntityByID(message.entityId);
             if (entity instanceof OwnershipTrackedBridge) {
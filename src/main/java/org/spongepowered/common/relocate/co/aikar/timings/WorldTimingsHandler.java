@@ -76,6 +76,10 @@ public class WorldTimingsHandler {
     // Chunk population
     public final Timing chunkPopulate;
 
+    // Chunk unload queue
+    private int pendingChunkUnloads;
+    private long chunkUnloads;
+
     public WorldTimingsHandler(World world) {
         String name = world.getWorldInfo().getWorldName() + " - ";
 
@@ -121,4 +125,23 @@ public WorldTimingsHandler(World world) {
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
     }
+
+    /**
+     * Records the state of the chunk unload queue after an unload pass.
+     *
+     * @param pending The number of chunks still queued for unload
+     * @param unloaded The number of chunks unloaded in this pass
+     */
+    public void recordChunkUnloads(int pending, int unloaded) {
+        this.pendingChunkUnloads = pending;
+        this.chunkUnloads += unloaded;
+    }
+
+    public int getPendingChunkUnloads() {
+        return this.pendingChunkUnloads;
+    }
+
+    public long getChunkUnloads() {
+        return this.chunkUnloads;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executor layer of the {@link AsyncScheduler}. Tasks are dispatched
+ * through a {@link PluginTaskQueue} per plugin, which enforces the
+ * configured concurrency limit and collects metrics, onto a shared
+ * thread pool of the configured type.
+ */
+final class AsyncTaskExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "Sponge - Async Scheduler Thread #";
+    private static final String INTERNAL_THREAD_NAME_FORMAT = "Sponge - Async Internal Thread #%d";
+
+    private final ExecutorService executor;
+    // Sponge's own work is not subject to the plugin limits, so it must not
+    // share a bounded pool that long running plugin tasks can fill up.
+    private final ExecutorService internalExecutor =
+            Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat(INTERNAL_THREAD_NAME_FORMAT).build());
+    private final int maxConcurrentTasksPerPlugin;
+    private final Map<PluginContainer, PluginTaskQueue> queues = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(SchedulerCategory category) {
+        this.executor = createExecutor(category);
+        this.maxConcurrentTasksPerPlugin = resolveMaxConcurrentTasksPerPlugin(category, this.executor);
+    }
+
+    /**
+     * Gets the thread pool for Sponge's own asynchronous work, which is
+     * separate from the pool running plugin tasks.
+     *
+     * @return The thread pool
+     */
+    ExecutorService getInternalExecutor() {
+        return this.internalExecutor;
+    }
+
+    void execute(PluginContainer plugin, Runnable runnable) {
+        PluginTaskQueue queue = this.queues.get(plugin);
+        if (queue == null) {
+            queue = this.queues.computeIfAbsent(plugin, key -> new PluginTaskQueue(key, this.executor, this.maxConcurrentTasksPerPlugin));
+        }
+        queue.submit(runnable);
+    }
+
+    Collection<PluginTaskQueue> getQueues() {
+        return Collections.unmodifiableCollection(this.queues.values());
+    }
+
+    private static ExecutorService createExecutor(SchedulerCategory category) {
+        final int threads = category.getMaxThreads() > 0 ? category.getMaxThreads() : Math.max(4, Runtime.getRuntime().availableProcessors());
+        final String type = category.getExecutorType().toLowerCase();
+        switch (type) {
+            case "cached":
+                return Executors.newCachedThreadPool(createThreadFactory());
+            case "fork-join":
+                return new ForkJoinPool(threads, pool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(THREAD_NAME_PREFIX + thread.getPoolIndex());
+                    return thread;
+                }, null, true);
+            case "virtual":
+                try {
+                    return createVirtualThreadExecutor();
+                } catch (ReflectiveOperationException e) {
+                    SpongeImpl.getLogger().warn("Virtual threads are not supported by this JVM ({}), falling back to a fixed thread pool "
+                            + "for asynchronous tasks.", System.getProperty("java.version"));
+                }
+                break;
+            case "fixed":
+                break;
+            default:
+                SpongeImpl.getLogger().warn("Unknown async executor type '{}' in the scheduler config, falling back to a fixed thread pool.",
+                        category.getExecutorType());
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                createThreadFactory());
+        // Don't keep idle threads around, just like the cached pool used to
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static int resolveMaxConcurrentTasksPerPlugin(SchedulerCategory category, ExecutorService executor) {
+        final int configured = category.getMaxConcurrentTasksPerPlugin();
+        final int threads;
+        if (executor instanceof ForkJoinPool) {
+            threads = ((ForkJoinPool) executor).getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor && ((ThreadPoolExecutor) executor).getMaximumPoolSize() != Integer.MAX_VALUE) {
+            threads = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        } else {
+            // Unbounded pools always have a thread to spare for other plugins
+            return Math.max(configured, 0);
+        }
+        // A single plugin must never be able to occupy every thread of a bounded pool
+        final int defaultLimit = Math.max(1, threads / 2);
+        if (configured <= 0) {
+            return defaultLimit;
+        }
+        if (configured > threads) {
+            SpongeImpl.getLogger().warn("The scheduler config allows {} concurrent asynchronous tasks per plugin, which is more than the {} "
+                    + "available threads. Using {} instead.", configured, threads, defaultLimit);
+            return defaultLimit;
+        }
+        return configured;
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        return new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_PREFIX + "%d").build();
+    }
+
+    /**
+     * Creates a thread per task executor of virtual threads, which is
+     * only available from Java 21 onwards, hence the reflection.
+     *
+     * @return The executor
+     * @throws ReflectiveOperationException If virtual threads are unavailable
+     */
+    private static ExecutorService createVirtualThreadExecutor() throws ReflectiveOperationException {
+        final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+        final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        final Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) method.invoke(null, factory);
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The asynchronous tasks of a single plugin that are waiting for or are
+ * running on the thread pool of the {@link AsyncScheduler}, including
+ * metrics about how long they take.
+ */
+public final class PluginTaskQueue {
+
+    private final PluginContainer plugin;
+    private final Executor executor;
+    private final int maxConcurrentTasks;
+    private final Queue<QueuedTask> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final LongAdder totalRunTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    private final AtomicLong maxRunTime = new AtomicLong();
+
+    PluginTaskQueue(PluginContainer plugin, Executor executor, int maxConcurrentTasks) {
+        this.plugin = plugin;
+        this.executor = executor;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    void submit(Runnable runnable) {
+        this.pending.add(new QueuedTask(runnable, System.nanoTime()));
+        this.queued.incrementAndGet();
+        this.dispatch();
+    }
+
+    private void dispatch() {
+        while (!this.pending.isEmpty()) {
+            final int running = this.running.get();
+            if (this.maxConcurrentTasks > 0 && running >= this.maxConcurrentTasks) {
+                // A running task will dispatch the next one once it completes
+                return;
+            }
+            if (!this.running.compareAndSet(running, running + 1)) {
+                continue;
+            }
+            final QueuedTask task = this.pending.poll();
+            if (task == null) {
+                this.running.decrementAndGet();
+                continue;
+            }
+            this.queued.decrementAndGet();
+            try {
+                this.executor.execute(() -> this.run(task));
+            } catch (RejectedExecutionException e) {
+                // The pool is shutting down, there is nothing left to run on
+                this.running.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void run(QueuedTask task) {
+        final long start = System.nanoTime();
+        final long waitTime = start - task.submitted;
+        this.totalWaitTime.add(waitTime);
+        this.maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        try {
+            task.runnable.run();
+        } finally {
+            final long runTime = System.nanoTime() - start;
+            this.totalRunTime.add(runTime);
+            this.maxRunTime.accumulateAndGet(runTime, Math::max);
+            this.completed.increment();
+            this.running.decrementAndGet();
+            this.dispatch();
+        }
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the amount of tasks waiting for a thread.
+     *
+     * @return The queue depth
+     */
+    public int getQueuedTasks() {
+        return this.queued.get();
+    }
+
+    public int getRunningTasks() {
+        return this.running.get();
+    }
+
+    public long getCompletedTasks() {
+        return this.completed.sum();
+    }
+
+    /**
+     * Gets the average time in nanoseconds tasks waited between being
+     * submitted and starting to run.
+     *
+     * @return The average wait time
+     */
+    public long getAverageWaitTime() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? 0 : this.totalWaitTime.sum() / completed;
+    }
+
+    public long getMaxWaitTime() {
+        return this.maxWaitTime.get();
+    }
+
+    /**
+     * Gets the average time in nanoseconds tasks took to run.
+     *
+     * @return The average run time
+     */
+    public long getAverageRunTime() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? 0 : this.totalRunTime.sum() / completed;
+    }
+
+    public long getMaxRunTime() {
+        return this.maxRunTime.get();
+    }
+
+    private static final class QueuedTask {
+
+        final Runnable runnable;
+        final long submitted;
+
+        QueuedTask(Runnable runnable, long submitted) {
+            this.runnable = runnable;
+            this.submitted = submitted;
+        }
+    }
+}
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +56,12 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    // The scheduler this task was submitted to, used to dequeue it on cancellation
+    @Nullable SchedulerBase scheduler;
+    // Bookkeeping of the ScheduledTaskQueue currently holding this task
+    @Nullable ScheduledTaskQueue queue;
+    int queueIndex = -1;
+    long queueDeadline;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -137,6 +145,9 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A binary min-heap of {@link ScheduledTask}s ordered by the timestamp of
+ * their next execution. Each task remembers its own slot in the heap, so
+ * adding, removing and polling are O(log n) while finding the next deadline
+ * is O(1), none of which allocate once the backing array has grown.
+ *
+ * <p>All timestamps within a single queue must share the same time base,
+ * either ticks or nanoseconds, as they are compared against each other.</p>
+ */
+final class ScheduledTaskQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private ScheduledTask[] heap = new ScheduledTask[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds the task to the queue, using its current
+     * {@link ScheduledTask#nextExecutionTimestamp()} as the deadline.
+     *
+     * @param task The task to add
+     */
+    synchronized void add(ScheduledTask task) {
+        if (task.queue == this) {
+            // Re-adding a queued task just updates its deadline
+            this.removeAt(task.queueIndex);
+        }
+        if (this.size == this.heap.length) {
+            this.heap = Arrays.copyOf(this.heap, this.size << 1);
+        }
+        task.queue = this;
+        task.queueDeadline = task.nextExecutionTimestamp();
+        this.siftUp(this.size++, task);
+    }
+
+    /**
+     * Removes the task from the queue if it is present.
+     *
+     * @param task The task to remove
+     * @return True if the task was removed
+     */
+    synchronized boolean remove(ScheduledTask task) {
+        if (task.queue != this) {
+            return false;
+        }
+        this.removeAt(task.queueIndex);
+        return true;
+    }
+
+    /**
+     * Gets the earliest deadline within this queue.
+     *
+     * @return The deadline, or {@link Long#MAX_VALUE} if the queue is empty
+     */
+    synchronized long peekDeadline() {
+        return this.size == 0 ? Long.MAX_VALUE : this.heap[0].queueDeadline;
+    }
+
+    /**
+     * Removes and returns the head of the queue if its deadline has passed.
+     *
+     * @param now The current timestamp
+     * @return The expired task, or null if there is none
+     */
+    @Nullable
+    synchronized ScheduledTask pollExpired(long now) {
+        if (this.size == 0) {
+            return null;
+        }
+        final ScheduledTask head = this.heap[0];
+        // Compare the difference to stay correct when nanoTime overflows
+        if (head.queueDeadline - now > 0) {
+            return null;
+        }
+        this.removeAt(0);
+        return head;
+    }
+
+    synchronized int size() {
+        return this.size;
+    }
+
+    synchronized void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.heap[i].queue = null;
+            this.heap[i].queueIndex = -1;
+            this.heap[i] = null;
+        }
+        this.size = 0;
+    }
+
+    private void removeAt(int index) {
+        final ScheduledTask removed = this.heap[index];
+        removed.queue = null;
+        removed.queueIndex = -1;
+        final int last = --this.size;
+        final ScheduledTask moved = this.heap[last];
+        this.heap[last] = null;
+        if (index != last) {
+            this.siftDown(index, moved);
+            if (this.heap[index] == moved) {
+                this.siftUp(index, moved);
+            }
+        }
+    }
+
+    private void siftUp(int index, ScheduledTask task) {
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+            final ScheduledTask parent = this.heap[parentIndex];
+            if (task.queueDeadline - parent.queueDeadline >= 0) {
+                break;
+            }
+            this.heap[index] = parent;
+            parent.queueIndex = index;
+            index = parentIndex;
+        }
+        this.heap[index] = task;
+        task.queueIndex = index;
+    }
+
+    private void siftDown(int index, ScheduledTask task) {
+        final int half = this.size >>> 1;
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            ScheduledTask child = this.heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < this.size && this.heap[rightIndex].queueDeadline - child.queueDeadline < 0) {
+                childIndex = rightIndex;
+                child = this.heap[childIndex];
+            }
+            if (task.queueDeadline - child.queueDeadline <= 0) {
+                break;
+            }
+            this.heap[index] = child;
+            child.queueIndex = index;
+            index = childIndex;
+        }
+        this.heap[index] = task;
+        task.queueIndex = index;
+    }
+
+}
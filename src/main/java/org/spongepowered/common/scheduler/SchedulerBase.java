@@ -44,8 +44,12 @@
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // The simple map of all pending (and running) ScheduledTasks, for lookups by id
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // The pending tasks ordered by their next execution, split by time base
+    // since tick and nanosecond timestamps cannot be compared to each other.
+    private final ScheduledTaskQueue nanoQueue = new ScheduledTaskQueue();
+    private final ScheduledTaskQueue tickQueue = new ScheduledTaskQueue();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -69,7 +73,38 @@ protected String nextName(PluginContainer plugin) {
      * @return Timestamp for the task
      */
     protected long getTimestamp(ScheduledTask task) {
-        return System.nanoTime();
+        return this.isTickBased(task) ? this.getTickTimestamp() : System.nanoTime();
+    }
+
+    /**
+     * Gets whether the current timestamp of the task is measured in ticks
+     * rather than nanoseconds, this depends on the state of the task.
+     *
+     * @param task The task
+     * @return True if the task is measured in ticks
+     */
+    protected boolean isTickBased(ScheduledTask task) {
+        return false;
+    }
+
+    /**
+     * Gets the current tick, only used for tasks that are
+     * {@link #isTickBased(ScheduledTask) tick based}.
+     *
+     * @return The current tick
+     */
+    protected long getTickTimestamp() {
+        return 0L;
+    }
+
+    /**
+     * Gets the earliest nanosecond timestamp at which a pending task
+     * wants to be executed.
+     *
+     * @return The timestamp, or {@link Long#MAX_VALUE} if nothing is pending
+     */
+    protected long getNextExecutionTimestamp() {
+        return this.nanoQueue.peekDeadline();
     }
 
     /**
@@ -79,8 +114,10 @@ protected long getTimestamp(ScheduledTask task) {
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
+        task.scheduler = this;
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.enqueue(task);
     }
 
     /**
@@ -89,27 +126,49 @@ protected void addTask(ScheduledTask task) {
      * @param task The task to remove
      */
     protected void removeTask(ScheduledTask task) {
+        this.dequeue(task);
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task has been cancelled. Waiting tasks are removed
+     * directly, tasks that are currently executing are removed once they
+     * complete.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        if (this.dequeue(task)) {
+            this.taskMap.remove(task.getUniqueId());
+        }
+    }
+
+    private void enqueue(ScheduledTask task) {
+        (this.isTickBased(task) ? this.tickQueue : this.nanoQueue).add(task);
+    }
+
+    private boolean dequeue(ScheduledTask task) {
+        final ScheduledTaskQueue queue = task.queue;
+        return queue != null && queue.remove(task);
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
 
     protected Set<Task> getScheduledTasks() {
-        synchronized (this.taskMap) {
-            return Sets.<Task>newHashSet(this.taskMap.values());
-        }
+        return Sets.<Task>newHashSet(this.taskMap.values());
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks whose execution is due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.processQueue(this.nanoQueue, System.nanoTime());
+            this.processQueue(this.tickQueue, this.getTickTimestamp());
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -117,6 +176,15 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void processQueue(ScheduledTaskQueue queue, long now) {
+        // The timestamp is taken once, so a repeating task that gets
+        // re-queued while processing can't run twice within the same tick.
+        ScheduledTask task;
+        while ((task = queue.pollExpired(now)) != null) {
+            this.processTask(task);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -137,7 +205,8 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that was polled from the queue, its deadline
+     * has passed.
      *
      * @param task The task to process
      */
@@ -148,34 +217,20 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
+        // If the task is already being processed, it's re-queued once the
+        // previous occurrence terminates.
         if (task.getState() == ScheduledTask.ScheduledTaskState.EXECUTING) {
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
         // Repeating tasks get a reset-timestamp each time they are set RUNNING
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.period == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -226,10 +281,18 @@ protected PhaseContext<?> createContext(ScheduledTask task, PluginContainer cont
 
     /**
      * Run when a task has completed and is switching into
-     * the {@link ScheduledTask.ScheduledTaskState#RUNNING} state
+     * the {@link ScheduledTask.ScheduledTaskState#RUNNING} state, re-queues
+     * repeating tasks for their next execution.
      */
     protected void onTaskCompletion(ScheduledTask task) {
-        // no-op for sync methods.
+        if (task.period == 0L) {
+            return;
+        }
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.removeTask(task);
+            return;
+        }
+        this.enqueue(task);
     }
 
 }
@@ -42,6 +42,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.entity.player.InventoryPlayerBridge;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
@@ -198,8 +199,18 @@ public void tickSyncScheduler() {
         }
     }
 
+    /**
+     * Gets the queues of asynchronous tasks per plugin, along with their
+     * metrics.
+     *
+     * @return The task queues
+     */
+    public Collection<PluginTaskQueue> getAsyncTaskQueues() {
+        return this.asyncScheduler.getTaskQueues();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getInternalExecutor());
     }
 
     public Future<?> callSync(Runnable runnable) {
@@ -0,0 +1,157 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread safe set of all 65536 possible {@code short} values, backed by
+ * a bitset that doesn't box or allocate on {@link #add}, {@link #remove} or
+ * {@link #contains}.
+ *
+ * <p>The bits are split into pages which are only allocated once a value
+ * within them is added for the first time, so sets that only ever hold a
+ * few clustered values, such as the queued light updates of a chunk, stay
+ * small.</p>
+ */
+public final class ConcurrentShortBitSet {
+
+    private static final int PAGE_SHIFT = 10; // 1024 bits per page
+    private static final int PAGE_COUNT = 1 << (Short.SIZE - PAGE_SHIFT);
+    private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) >> 6;
+    private static final int BIT_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(PAGE_COUNT);
+
+    /**
+     * Adds the value to the set.
+     *
+     * @param value The value
+     * @return True if the value wasn't present before
+     */
+    public boolean add(final short value) {
+        final int index = value & 0xFFFF;
+        final AtomicLongArray page = this.getOrCreatePage(index >>> PAGE_SHIFT);
+        final int word = (index & BIT_MASK) >>> 6;
+        final long bit = 1L << index;
+        while (true) {
+            final long current = page.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (page.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the value from the set.
+     *
+     * @param value The value
+     * @return True if the value was present
+     */
+    public boolean remove(final short value) {
+        final int index = value & 0xFFFF;
+        final AtomicLongArray page = this.pages.get(index >>> PAGE_SHIFT);
+        if (page == null) {
+            return false;
+        }
+        final int word = (index & BIT_MASK) >>> 6;
+        final long bit = 1L << index;
+        while (true) {
+            final long current = page.get(word);
+            if ((current & bit) == 0) {
+                return false;
+            }
+            if (page.compareAndSet(word, current, current & ~bit)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(final short value) {
+        final int index = value & 0xFFFF;
+        final AtomicLongArray page = this.pages.get(index >>> PAGE_SHIFT);
+        return page != null && (page.get((index & BIT_MASK) >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets the amount of values in the set. This is not an atomic snapshot
+     * while the set is concurrently modified.
+     *
+     * @return The size
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            final AtomicLongArray page = this.pages.get(i);
+            if (page != null) {
+                for (int j = 0; j < WORDS_PER_PAGE; j++) {
+                    size += Long.bitCount(page.get(j));
+                }
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            final AtomicLongArray page = this.pages.get(i);
+            if (page != null) {
+                for (int j = 0; j < WORDS_PER_PAGE; j++) {
+                    if (page.get(j) != 0) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all values and releases the allocated pages.
+     */
+    public void clear() {
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            this.pages.set(i, null);
+        }
+    }
+
+    private AtomicLongArray getOrCreatePage(final int pageIndex) {
+        while (true) {
+            final AtomicLongArray page = this.pages.get(pageIndex);
+            if (page != null) {
+                return page;
+            }
+            final AtomicLongArray created = new AtomicLongArray(WORDS_PER_PAGE);
+            if (this.pages.compareAndSet(pageIndex, null, created)) {
+                return created;
+            }
+        }
+    }
+
+}
@@ -148,6 +148,10 @@ public static final class Sponge {
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_SHORT_BLOCK_POS_KEYS = "ShortBlockPosKeys";
+        public static final String SPONGE_SHORT_BLOCK_POS_VALUES = "ShortBlockPosValues";
+        public static final String SPONGE_INT_BLOCK_POS_KEYS = "IntBlockPosKeys";
+        public static final String SPONGE_INT_BLOCK_POS_VALUES = "IntBlockPosValues";
         public static final String SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
         public static final String CUSTOM_MANIPULATOR_TAG_LIST = "CustomManipulators";
         public static final DataQuery CUSTOM_MANIPULATOR_LIST = of(CUSTOM_MANIPULATOR_TAG_LIST);
@@ -264,6 +268,7 @@ public static final class World {
             public static final String LEVEL_SPONGE_DAT = "level_sponge.dat";
             public static final String LEVEL_SPONGE_DAT_OLD = "level_sponge.dat_old";
             public static final String LEVEL_SPONGE_DAT_NEW = "level_sponge.dat_new";
+            public static final String LEVEL_SPONGE_UNIQUE_IDS = "level_sponge_uuids.dat";
         }
         public static final class Schematic {
             public static final DataQuery NAME = of("Name");
@@ -416,6 +421,8 @@ public static final class Chunk {
         public static final int Y_INT_MASK = 0xFFFFFF;
         public static final String CHUNK_DATA_LEVEL = "Level";
         public static final String CHUNK_DATA_SECTIONS = "Sections";
+        public static final String CHUNK_DATA_X_POS = "xPos";
+        public static final String CHUNK_DATA_Z_POS = "zPos";
         private static final int Y_SHIFT = Constants.Chunk.NUM_XZ_BITS;
     }
     public static final class Networking {
@@ -107,7 +107,7 @@ public BlockVolumeWorker<? extends ImmutableBlockVolume> getBlockWorker() {
     public MutableBlockVolume getBlockCopy(StorageType type) {
         switch (type) {
             case STANDARD:
-                return new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
+                return ArrayMutableBlockBuffer.copyOnWrite(this.palette, this.data, this.start, this.size);
             case THREAD_SAFE:
             default:
                 throw new UnsupportedOperationException(type.name());
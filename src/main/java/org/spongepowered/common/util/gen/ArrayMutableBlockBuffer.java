@@ -61,6 +61,11 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Muta
 
     private Palette<BlockState> palette;
     private BackingData data;
+    /**
+     * Whether {@link #data} is also referenced by a copy of this buffer, in
+     * which case it has to be copied before it is written to.
+     */
+    private boolean shared;
 
     @SuppressWarnings("deprecation")
     public ArrayMutableBlockBuffer(Vector3i start, Vector3i size) {
@@ -90,6 +95,25 @@ public ArrayMutableBlockBuffer(Palette<BlockState> palette, Vector3i start, Vect
         this.data = new CharBackingData(blocks);
     }
 
+    /**
+     * Creates a buffer that stores the given ids packed to the number of bits
+     * needed for the highest id of the palette. The array is only read from
+     * and not referenced by the buffer.
+     *
+     * @param palette The palette
+     * @param start The start block position
+     * @param size The block size
+     * @param blocks The block ids
+     * @return The new buffer
+     */
+    public static ArrayMutableBlockBuffer packed(Palette<BlockState> palette, Vector3i start, Vector3i size, char[] blocks) {
+        final PackedBackingData data = new PackedBackingData(blocks.length, palette.getHighestId());
+        for (int i = 0; i < blocks.length; i++) {
+            data.set(i, blocks[i]);
+        }
+        return new ArrayMutableBlockBuffer(palette, data, start, size);
+    }
+
     /**
      * Does not clone!
      *
@@ -104,6 +128,22 @@ public ArrayMutableBlockBuffer(Palette<BlockState> palette, Vector3i start, Vect
         this.data = blocks;
     }
 
+    /**
+     * Creates a buffer that shares its backing data with another buffer until
+     * either of them is written to.
+     *
+     * @param palette The palette
+     * @param blocks The shared backing data
+     * @param start The start block position
+     * @param size The block size
+     * @return The new buffer
+     */
+    static ArrayMutableBlockBuffer copyOnWrite(Palette<BlockState> palette, BackingData blocks, Vector3i start, Vector3i size) {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(palette, blocks, start, size);
+        buffer.shared = true;
+        return buffer;
+    }
+
     @Override
     public Palette<BlockState> getPalette() {
         return this.palette;
@@ -137,6 +177,10 @@ public boolean setBlock(int x, int y, int z, BlockState block) {
                 }
             }
             this.data = newdata;
+            this.shared = false;
+        } else if (this.shared) {
+            this.data = this.data.copyOf();
+            this.shared = false;
         }
         this.data.set(getIndex(x, y, z), id);
         return true;
@@ -174,7 +218,8 @@ public UnmodifiableBlockVolume getUnmodifiableBlockView() {
     public MutableBlockVolume getBlockCopy(StorageType type) {
         switch (type) {
             case STANDARD:
-                return new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
+                this.shared = true;
+                return copyOnWrite(this.palette, this.data, this.start, this.size);
             case THREAD_SAFE:
             default:
                 throw new UnsupportedOperationException(type.name());
@@ -183,7 +228,9 @@ public MutableBlockVolume getBlockCopy(StorageType type) {
 
     @Override
     public ImmutableBlockVolume getImmutableBlockCopy() {
-        return new ArrayImmutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
+        // The data is only copied once this buffer is written to again
+        this.shared = true;
+        return new ArrayImmutableBlockBuffer(this.palette, this.data, this.start, this.size);
     }
 
     private int area() {
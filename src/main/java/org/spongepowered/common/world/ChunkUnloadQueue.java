@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A queue of chunk keys ordered by the time at which they may be unloaded,
+ * backed by a binary min-heap of primitive longs. Every key is held at most
+ * once, offering a key that is already queued does nothing.
+ *
+ * <p>Entries are never removed when a chunk becomes active again, the chunk
+ * provider checks the chunk when its key comes up and drops it then. This
+ * keeps chunk lookups free of any bookkeeping.</p>
+ */
+public final class ChunkUnloadQueue {
+
+    private final LongSet queued = new LongOpenHashSet();
+    private long[] deadlines = new long[64];
+    private long[] keys = new long[64];
+    private int size;
+
+    /**
+     * Queues a chunk key, unless it is already queued.
+     *
+     * @param key The chunk key
+     * @param deadline The time from which the chunk may be unloaded
+     * @return True if the key was added
+     */
+    public boolean offer(final long key, final long deadline) {
+        if (!this.queued.add(key)) {
+            return false;
+        }
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size << 1);
+            this.deadlines = Arrays.copyOf(this.deadlines, this.size << 1);
+        }
+        int index = this.size++;
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (this.deadlines[parent] <= deadline) {
+                break;
+            }
+            this.keys[index] = this.keys[parent];
+            this.deadlines[index] = this.deadlines[parent];
+            index = parent;
+        }
+        this.keys[index] = key;
+        this.deadlines[index] = deadline;
+        return true;
+    }
+
+    /**
+     * Gets whether the earliest queued key is due at the given time.
+     *
+     * @param now The current time
+     * @return True if {@link #poll()} will return a due key
+     */
+    public boolean hasDue(final long now) {
+        return this.size > 0 && this.deadlines[0] <= now;
+    }
+
+    /**
+     * Removes and returns the key with the earliest deadline.
+     *
+     * @return The chunk key
+     */
+    public long poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        final long key = this.keys[0];
+        this.queued.remove(key);
+        final int last = --this.size;
+        final long movedKey = this.keys[last];
+        final long movedDeadline = this.deadlines[last];
+        int index = 0;
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= last) {
+                break;
+            }
+            if (child + 1 < last && this.deadlines[child + 1] < this.deadlines[child]) {
+                child++;
+            }
+            if (movedDeadline <= this.deadlines[child]) {
+                break;
+            }
+            this.keys[index] = this.keys[child];
+            this.deadlines[index] = this.deadlines[child];
+            index = child;
+        }
+        this.keys[index] = movedKey;
+        this.deadlines[index] = movedDeadline;
+        return key;
+    }
+
+    public boolean contains(final long key) {
+        return this.queued.contains(key);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        this.queued.clear();
+        this.size = 0;
+    }
+
+}
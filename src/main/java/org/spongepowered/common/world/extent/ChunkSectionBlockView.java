@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+
+/**
+ * An unmodifiable view of a world backed volume that reads block states
+ * straight out of the {@link ExtendedBlockStorage} sections of chunks that
+ * were resolved up front, so reading never touches the chunk provider.
+ * Positions in chunks that were not loaded are delegated to the wrapped
+ * volume.
+ *
+ * <p>The chunks are indexed by chunk column, x first, starting at the
+ * column holding the minimum of the volume. Reads bypass the block states
+ * the world's proxy holds for block changes being processed, callers have
+ * to make sure it holds none.</p>
+ */
+public class ChunkSectionBlockView extends UnmodifiableBlockVolumeWrapper {
+
+    private static final IBlockState AIR = Blocks.AIR.getDefaultState();
+
+    private final Chunk[] chunks;
+    private final int chunkXMin;
+    private final int chunkZMin;
+    private final int width;
+
+    public ChunkSectionBlockView(MutableBlockVolume volume, Chunk[] chunks) {
+        super(volume);
+        this.chunks = chunks;
+        this.chunkXMin = volume.getBlockMin().getX() >> 4;
+        this.chunkZMin = volume.getBlockMin().getZ() >> 4;
+        this.width = (volume.getBlockMax().getX() >> 4) - this.chunkXMin + 1;
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        if (y < 0 || y > 255 || !containsBlock(x, y, z)) {
+            return super.getBlock(x, y, z);
+        }
+        final Chunk chunk = this.chunks[((z >> 4) - this.chunkZMin) * this.width + (x >> 4) - this.chunkXMin];
+        if (chunk == null) {
+            return super.getBlock(x, y, z);
+        }
+        // Sections are not cached, writes to the world may replace empty ones
+        final ExtendedBlockStorage section = chunk.getBlockStorageArray()[y >> 4];
+        if (section == Chunk.NULL_BLOCK_STORAGE) {
+            return (BlockState) AIR;
+        }
+        return (BlockState) section.get(x & 15, y & 15, z & 15);
+    }
+
+    @Override
+    public BlockType getBlockType(int x, int y, int z) {
+        return getBlock(x, y, z).getType();
+    }
+
+}
@@ -59,7 +59,10 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+import org.spongepowered.common.world.extent.worker.SpongeWorldBlockVolumeWorker;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -194,6 +197,17 @@ public boolean setBlock(int x, int y, int z, BlockState block) {
         return this.extent.setBlock(x, y, z, block);
     }
 
+    @Override
+    public MutableBlockVolumeWorker<? extends Extent> getBlockWorker() {
+        if (this.extent instanceof net.minecraft.world.World) {
+            return new SpongeWorldBlockVolumeWorker<>(this, (net.minecraft.world.World) this.extent);
+        }
+        if (this.extent instanceof net.minecraft.world.chunk.Chunk) {
+            return new SpongeWorldBlockVolumeWorker<>(this, ((net.minecraft.world.chunk.Chunk) this.extent).getWorld());
+        }
+        return new SpongeMutableBlockVolumeWorker<>(this);
+    }
+
     @Override
     public Location<? extends Extent> getLocation(Vector3i position) {
         return new Location<Extent>(this, position);
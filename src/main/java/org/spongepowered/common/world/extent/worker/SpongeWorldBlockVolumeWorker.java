@@ -0,0 +1,261 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.extent.ChunkSectionBlockView;
+
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A block worker for volumes backed by the chunks of a world. Volumes are
+ * walked one chunk column at a time and blocks are read straight from the
+ * chunk sections through a {@link ChunkSectionBlockView}.
+ *
+ * <p>Writes still go through {@link MutableBlockVolume#setBlock}, so that
+ * block changes keep being tracked and thrown as events.</p>
+ */
+public class SpongeWorldBlockVolumeWorker<V extends MutableBlockVolume> extends SpongeMutableBlockVolumeWorker<V> {
+
+    // Below this many blocks splitting a reduction up costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    // Volumes as wide as the whole world are left to the generic worker
+    private static final int MAX_COLUMNS = 1 << 20;
+
+    private final World world;
+
+    public SpongeWorldBlockVolumeWorker(V volume, World world) {
+        super(volume);
+        this.world = world;
+    }
+
+    @SuppressWarnings("try")
+    @Override
+    public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
+        final Vector3i offset = align(destination);
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        final int[] columns = getColumns();
+        if (columns == null || !canReadSections()) {
+            super.map(mapper, destination);
+            return;
+        }
+        final UnmodifiableBlockVolume unmodifiableVolume = new ChunkSectionBlockView(this.volume, getLoadedChunks(columns));
+        final int yMin = this.volume.getBlockMin().getY();
+        final int yMax = this.volume.getBlockMax().getY();
+        try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
+            .source(this)) {
+            phaseState.buildAndSwitch();
+            for (int column = 0; column < columns.length; column += 4) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int z = columns[column + 2]; z <= columns[column + 3]; z++) {
+                        for (int x = columns[column]; x <= columns[column + 1]; x++) {
+                            final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
+
+                            destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("try")
+    @Override
+    public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination) {
+        final Vector3i offsetSecond = align(second);
+        final int xOffsetSecond = offsetSecond.getX();
+        final int yOffsetSecond = offsetSecond.getY();
+        final int zOffsetSecond = offsetSecond.getZ();
+        final Vector3i offsetDestination = align(destination);
+        final int xOffsetDestination = offsetDestination.getX();
+        final int yOffsetDestination = offsetDestination.getY();
+        final int zOffsetDestination = offsetDestination.getZ();
+        final int[] columns = getColumns();
+        if (columns == null || !canReadSections()) {
+            super.merge(second, merger, destination);
+            return;
+        }
+        final UnmodifiableBlockVolume firstUnmodifiableVolume = new ChunkSectionBlockView(this.volume, getLoadedChunks(columns));
+        final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
+        final int yMin = this.volume.getBlockMin().getY();
+        final int yMax = this.volume.getBlockMax().getY();
+        try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
+            .source(this)) {
+            context.buildAndSwitch();
+            for (int column = 0; column < columns.length; column += 4) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int z = columns[column + 2]; z <= columns[column + 3]; z++) {
+                        for (int x = columns[column]; x <= columns[column + 1]; x++) {
+                            final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
+                                secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
+                            destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        final int[] columns = getColumns();
+        if (columns == null || !canReadSections()) {
+            return super.reduce(reducer, merge, identity);
+        }
+        final int yMin = this.volume.getBlockMin().getY();
+        final int yMax = this.volume.getBlockMax().getY();
+        // Chunks are only ever looked up on the calling thread, the chunk provider is not thread safe
+        final Chunk[] chunks = getLoadedChunks(columns);
+        if (!canReduceInParallel(chunks)) {
+            final UnmodifiableBlockVolume unmodifiableVolume = new ChunkSectionBlockView(this.volume, chunks);
+            T reduction = identity;
+            for (int column = 0; column < columns.length; column += 4) {
+                reduction = reduceColumn(unmodifiableVolume, reducer, reduction, columns, column, yMin, yMax);
+            }
+            return reduction;
+        }
+        // The calling thread waits for the reduction, so nothing writes to the sections meanwhile.
+        // Partial results are merged back in column order to keep the result deterministic.
+        final Object[] results = new Object[columns.length / 4];
+        IntStream.range(0, results.length).parallel().forEach(index -> {
+            final UnmodifiableBlockVolume unmodifiableVolume = new ChunkSectionBlockView(this.volume, chunks);
+            results[index] = reduceColumn(unmodifiableVolume, reducer, identity, columns, index * 4, yMin, yMax);
+        });
+        T reduction = identity;
+        for (final Object result : results) {
+            @SuppressWarnings("unchecked") final T partial = (T) result;
+            reduction = merge.apply(reduction, partial);
+        }
+        return reduction;
+    }
+
+    private <T> T reduceColumn(UnmodifiableBlockVolume unmodifiableVolume, BlockVolumeReducer<T> reducer, T reduction, int[] columns,
+        int column, int yMin, int yMax) {
+        for (int y = yMin; y <= yMax; y++) {
+            for (int z = columns[column + 2]; z <= columns[column + 3]; z++) {
+                for (int x = columns[column]; x <= columns[column + 1]; x++) {
+                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                }
+            }
+        }
+        return reduction;
+    }
+
+    private boolean canReduceInParallel(Chunk[] chunks) {
+        if (chunks.length < 2 || !SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().useParallelBlockWorkerReduce()) {
+            return false;
+        }
+        final Vector3i size = this.volume.getBlockSize();
+        if ((long) size.getX() * size.getY() * size.getZ() < PARALLEL_THRESHOLD || !Sponge.getServer().isMainThread()) {
+            return false;
+        }
+        // Worker threads must never fall back to the world for unloaded chunks
+        for (final Chunk chunk : chunks) {
+            if (chunk == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets whether blocks can be read straight from the chunk sections. The
+     * debug world generates its states on the fly, and block changes that
+     * are being processed are only visible through the world's proxy.
+     *
+     * @return True if the chunk sections hold the current states
+     */
+    private boolean canReadSections() {
+        if (this.world.getWorldType() == WorldType.DEBUG_ALL_BLOCK_STATES) {
+            return false;
+        }
+        return !(this.world instanceof WorldServerBridge) || !((WorldServerBridge) this.world).bridge$getProxyAccess().hasProcessedStates();
+    }
+
+    /**
+     * Looks up the loaded chunk of every column, in the same order as
+     * {@link #getColumns()}.
+     *
+     * @param columns The column bounds
+     * @return The chunks, null for columns that are not loaded
+     */
+    private Chunk[] getLoadedChunks(int[] columns) {
+        final Chunk[] chunks = new Chunk[columns.length / 4];
+        for (int column = 0; column < columns.length; column += 4) {
+            chunks[column / 4] = this.world.getChunkProvider().getLoadedChunk(columns[column] >> 4, columns[column + 2] >> 4);
+        }
+        return chunks;
+    }
+
+    /**
+     * Splits the volume into the parts of the chunk columns it covers, as
+     * consecutive {@code xMin, xMax, zMin, zMax} entries.
+     *
+     * @return The column bounds, or null if the volume spans too many columns
+     */
+    @Nullable
+    private int[] getColumns() {
+        final int xMin = this.volume.getBlockMin().getX();
+        final int zMin = this.volume.getBlockMin().getZ();
+        final int xMax = this.volume.getBlockMax().getX();
+        final int zMax = this.volume.getBlockMax().getZ();
+        final long count = ((long) (xMax >> 4) - (xMin >> 4) + 1) * ((long) (zMax >> 4) - (zMin >> 4) + 1);
+        if (count > MAX_COLUMNS) {
+            return null;
+        }
+        final int[] columns = new int[(int) count * 4];
+        int index = 0;
+        for (int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+            for (int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+                columns[index++] = Math.max(xMin, chunkX << 4);
+                columns[index++] = Math.min(xMax, (chunkX << 4) + 15);
+                columns[index++] = Math.max(zMin, chunkZ << 4);
+                columns[index++] = Math.min(zMax, (chunkZ << 4) + 15);
+            }
+        }
+        return columns;
+    }
+
+}
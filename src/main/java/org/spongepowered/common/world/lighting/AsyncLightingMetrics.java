@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queue depth and latency counters for the asynchronous lighting of a
+ * single world.
+ */
+public final class AsyncLightingMetrics {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder processedInline = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public int getQueued() {
+        return this.queued.get();
+    }
+
+    public void onQueued() {
+        this.queued.incrementAndGet();
+    }
+
+    public void onBatch() {
+        this.batches.increment();
+    }
+
+    public void onProcessed(final long queueTime, final long now) {
+        this.queued.decrementAndGet();
+        this.processed.increment();
+        final long latency = now - queueTime;
+        this.totalLatency.add(latency);
+        long max;
+        while (latency > (max = this.maxLatency.get())) {
+            if (this.maxLatency.compareAndSet(max, latency)) {
+                break;
+            }
+        }
+    }
+
+    public void onProcessedInline() {
+        this.processedInline.increment();
+    }
+
+    public void onDiscarded(final int count) {
+        this.queued.addAndGet(-count);
+    }
+
+    public long getProcessed() {
+        return this.processed.sum();
+    }
+
+    public long getProcessedInline() {
+        return this.processedInline.sum();
+    }
+
+    public long getBatches() {
+        return this.batches.sum();
+    }
+
+    public double getAverageLatencyMillis() {
+        final long processed = this.processed.sum();
+        return processed == 0 ? 0 : this.totalLatency.sum() / (double) processed / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxLatencyMillis() {
+        return this.maxLatency.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An ordered queue of light checks waiting to be run for a single chunk.
+ *
+ * <p>Checks queued from the main thread are appended here instead of being
+ * submitted to the lighting executor one by one. At most one job per chunk
+ * is ever scheduled, which drains the batch in the order the checks were
+ * queued, so a burst of block changes in one chunk costs a single task
+ * instead of thousands.</p>
+ *
+ * <p>Each entry packs the light type and the chunk relative position as
+ * produced by the async lighting mixins, alongside the {@link System#nanoTime()}
+ * it was queued at for latency metrics.</p>
+ */
+public final class LightUpdateBatch {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int SKY_FLAG = 1 << 16;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private int[] entries = new int[INITIAL_CAPACITY];
+    private long[] queueTimes = new long[INITIAL_CAPACITY];
+    private int size;
+    private List<Chunk> neighbors = Collections.emptyList();
+
+    // Buffers owned by the job currently draining this batch
+    private int[] drainEntries = new int[INITIAL_CAPACITY];
+    private long[] drainQueueTimes = new long[INITIAL_CAPACITY];
+
+    public static int pack(final EnumSkyBlock type, final short pos) {
+        return (type == EnumSkyBlock.SKY ? SKY_FLAG : 0) | (pos & 0xFFFF);
+    }
+
+    public static EnumSkyBlock unpackType(final int entry) {
+        return (entry & SKY_FLAG) != 0 ? EnumSkyBlock.SKY : EnumSkyBlock.BLOCK;
+    }
+
+    public static short unpackPos(final int entry) {
+        return (short) entry;
+    }
+
+    /**
+     * Appends a light check to this batch.
+     *
+     * @param entry The packed light type and position
+     * @param queueTime The time the check was queued at, in nanoseconds
+     */
+    public synchronized void add(final int entry, final long queueTime) {
+        if (this.size == this.entries.length) {
+            final int newLength = this.entries.length << 1;
+            this.entries = Arrays.copyOf(this.entries, newLength);
+            this.queueTimes = Arrays.copyOf(this.queueTimes, newLength);
+        }
+        this.entries[this.size] = entry;
+        this.queueTimes[this.size++] = queueTime;
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Attempts to claim this batch for a new drain job. The claiming thread
+     * must supply the neighbors through {@link #setNeighbors(List)} before
+     * scheduling the job.
+     *
+     * @return True if the caller should schedule a job, false if one is
+     *     already scheduled or running
+     */
+    public boolean trySchedule() {
+        return this.scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Sets the neighbors captured on the main thread, which the drain job
+     * uses for every check it runs.
+     *
+     * @param neighbors The neighbor chunks
+     */
+    public synchronized void setNeighbors(final List<Chunk> neighbors) {
+        this.neighbors = neighbors;
+    }
+
+    public synchronized List<Chunk> getNeighbors() {
+        return this.neighbors;
+    }
+
+    /**
+     * Swaps the queued checks into the drain buffers. Must only be called
+     * by the job which claimed this batch through {@link #trySchedule()}.
+     *
+     * @return The number of checks now available through
+     *     {@link #getDrainedEntries()}, zero if the batch was empty, in which
+     *     case the claim has been released
+     */
+    public synchronized int drain() {
+        final int drained = this.size;
+        if (drained == 0) {
+            this.neighbors = Collections.emptyList();
+            this.scheduled.set(false);
+            return 0;
+        }
+        final int[] entries = this.entries;
+        final long[] queueTimes = this.queueTimes;
+        this.entries = this.drainEntries;
+        this.queueTimes = this.drainQueueTimes;
+        this.drainEntries = entries;
+        this.drainQueueTimes = queueTimes;
+        this.size = 0;
+        return drained;
+    }
+
+    public int[] getDrainedEntries() {
+        return this.drainEntries;
+    }
+
+    public long[] getDrainedQueueTimes() {
+        return this.drainQueueTimes;
+    }
+}
@@ -22,17 +22,5 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.util;
-
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.ChunkPos;
-
-public class QueuedChunk {
-    public ChunkPos coords;
-    public NBTTagCompound compound;
-
-    public QueuedChunk(ChunkPos coords, NBTTagCompound compound) {
-        this.coords = coords;
-        this.compound = compound;
-    }
-}
+@org.spongepowered.api.util.annotation.NonnullByDefault
+package org.spongepowered.common.world.lighting;
@@ -30,6 +30,7 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -49,11 +50,15 @@
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -71,6 +76,9 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
             Vector3i.UNIT_X.negate().mul(2)
     };
 
+    // Shared by all pre-generation tasks, created when the first task that looks ahead starts.
+    @Nullable private static ExecutorService lookaheadExecutor;
+
     private final Scheduler scheduler;
 
     private final World world;
@@ -84,6 +92,11 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private final Task spongeTask;
     private final int tickInterval;
     private final Object plugin;
+    @Nullable private final ExecutorService lookupExecutor;
+    private final int lookahead;
+
+    // Steps whose chunk existence is being (or has been) looked up, in spiral order.
+    private final Deque<PendingStep> pendingSteps = new ArrayDeque<>();
 
     // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
     @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
@@ -119,9 +132,15 @@ private SpongeChunkPreGenerateTask(Object plugin,
         // This also allows us to catch non Anvil file formats too.
         if (world.getWorldStorage() instanceof ChunkProviderServerBridge) {
             this.doesChunkExistCheck = this::checkChunkExistsAnvil;
+            // Existence checks only read the region files and the pending save queue, both of which are
+            // safe to access off the main thread, so they can be run ahead of the main thread. This leaves
+            // only the chunks which actually need generating to cost tick time.
+            this.lookupExecutor = getLookaheadExecutor();
         } else {
             this.doesChunkExistCheck = v -> false;
+            this.lookupExecutor = null;
         }
+        this.lookahead = this.lookupExecutor == null ? 1 : SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getChunkPreGenLookahead();
 
         this.chunkRadius = GenericMath.floor(diameter / 32);
         this.chunkCount = chunkCount;
@@ -156,10 +175,64 @@ private SpongeChunkPreGenerateTask(Object plugin,
         }
     }
 
+    @Nullable
+    private static synchronized ExecutorService getLookaheadExecutor() {
+        if (lookaheadExecutor == null) {
+            final int threads = SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getChunkPreGenLookaheadThreads();
+            if (threads <= 0) {
+                return null;
+            }
+            lookaheadExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - Chunk Pre-Generation Lookahead Thread #%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return lookaheadExecutor;
+    }
+
     Task getSpongeTask() {
         return this.spongeTask;
     }
 
+    /**
+     * Gets the number of steps whose chunks have been queued for an
+     * existence lookup but have not been generated or skipped yet.
+     *
+     * @return The number of pending steps
+     */
+    int getQueueDepth() {
+        return this.pendingSteps.size();
+    }
+
+    /**
+     * Gets the average number of chunks processed, generated or skipped,
+     * per second since generation started.
+     *
+     * @return The chunks per second
+     */
+    double getChunksPerSecond() {
+        final long millis = getTotalTime().toMillis();
+        if (millis <= 0) {
+            return 0;
+        }
+        return (this.chunksGenerated + this.chunksSkipped) * 1000.0 / millis;
+    }
+
+    /**
+     * Gets the estimated time left until all chunks have been processed,
+     * based on the throughput so far.
+     *
+     * @return The estimated time remaining, if any chunks have been processed
+     */
+    Optional<Duration> getEstimatedTimeRemaining() {
+        final double chunksPerSecond = getChunksPerSecond();
+        if (chunksPerSecond <= 0) {
+            return Optional.empty();
+        }
+        final int remaining = Math.max(0, this.totalChunksToGenerate - this.chunksGenerated - this.chunksSkipped);
+        return Optional.of(Duration.ofMillis(Math.round(remaining * 1000 / chunksPerSecond)));
+    }
+
     @Override
     public WorldProperties getWorldProperties() {
         return this.world.getProperties();
@@ -208,6 +281,7 @@ public void cancel() {
             }
             this.spongeTask.cancel();
             this.isCancelled = true;
+            clearPendingSteps();
         }
     }
 
@@ -241,13 +315,20 @@ public void accept(Task task) {
         int count = 0;
         int skipped = 0;
         do {
-            final Vector3i position = nextChunkPosition();
+            fillPendingSteps();
+            final PendingStep step = this.pendingSteps.peek();
+            if (!step.allChunksExist.isDone()) {
+                // Don't block the server thread on the lookup, the step is picked up again next tick
+                break;
+            }
+            this.pendingSteps.poll();
+            final Vector3i position = step.position;
             final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
             final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
             final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
 
             // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
+            if (!step.allChunksExist.join()) {
 
                 // At least one chunk isn't generated, so to populate, we need to load them all.
                 this.world.loadChunk(position, true);
@@ -255,13 +336,13 @@ public void accept(Task task) {
                 this.world.loadChunk(pos2, true);
                 this.world.loadChunk(pos3, true);
 
-                count += this.currentGenCount;
+                count += step.genCount;
             } else {
 
                 // Skipped them, log this.
-                skipped += this.currentGenCount;
+                skipped += step.genCount;
             }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        } while (hasNextStep() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
@@ -282,7 +363,10 @@ public void accept(Task task) {
             return;
         }
 
-        if (!hasNextChunkPosition()) {
+        // Keep the workers busy until the next step runs.
+        fillPendingSteps();
+
+        if (!hasNextStep()) {
             // Generation has completed.
             Sponge.getEventManager().post(SpongeEventFactory.createChunkPreGenerationEventComplete(
                     this.cause,
@@ -301,6 +385,29 @@ private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i ch
                 this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
     }
 
+    private void fillPendingSteps() {
+        while (this.pendingSteps.size() < this.lookahead && hasNextChunkPosition()) {
+            final Vector3i position = nextChunkPosition();
+            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
+            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
+            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
+            final CompletableFuture<Boolean> allChunksExist;
+            if (this.lookupExecutor == null) {
+                allChunksExist = CompletableFuture.completedFuture(areAllChunksLoaded(position, pos1, pos2, pos3));
+            } else {
+                allChunksExist = CompletableFuture.supplyAsync(() -> areAllChunksLoaded(position, pos1, pos2, pos3), this.lookupExecutor);
+            }
+            this.pendingSteps.add(new PendingStep(position, this.currentGenCount, allChunksExist));
+        }
+    }
+
+    private void clearPendingSteps() {
+        PendingStep step;
+        while ((step = this.pendingSteps.poll()) != null) {
+            step.allChunksExist.cancel(false);
+        }
+    }
+
     private void unregisterListener() {
         if (this.eventListener != null) {
             Sponge.getEventManager().unregisterListeners(this.eventListener);
@@ -316,6 +423,11 @@ private void cancelTask(Task task) {
 
         this.isCancelled = true;
         unregisterListener();
+        clearPendingSteps();
+    }
+
+    private boolean hasNextStep() {
+        return !this.pendingSteps.isEmpty() || hasNextChunkPosition();
     }
 
     private boolean hasNextChunkPosition() {
@@ -364,9 +476,23 @@ private boolean checkChunkExistsAnvil(Vector3i v) {
         }
     }
 
+    private static final class PendingStep {
+
+        final Vector3i position;
+        final int genCount;
+        final CompletableFuture<Boolean> allChunksExist;
+
+        PendingStep(Vector3i position, int genCount, CompletableFuture<Boolean> allChunksExist) {
+            this.position = position;
+            this.genCount = genCount;
+            this.allChunksExist = allChunksExist;
+        }
+    }
+
     public static class Builder implements ChunkPreGenerate.Builder {
 
         private static final String TIME_FORMAT = "s's 'S'ms'";
+        private static final String ETA_FORMAT = "H'h 'm'm 's's'";
 
         private final World world;
         private final Vector3d center;
@@ -401,12 +527,25 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
-                            DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
-                            GenericMath.floor(
-                                100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
-                                    / post.getChunkPreGenerate().getTargetTotalChunks())
-                        );
+                        final ChunkPreGenerate preGenerate = post.getChunkPreGenerate();
+                        final int percent = GenericMath.floor(
+                            100 * (preGenerate.getTotalGeneratedChunks() + preGenerate.getTotalSkippedChunks()) / preGenerate.getTargetTotalChunks());
+                        if (preGenerate instanceof SpongeChunkPreGenerateTask) {
+                            final SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) preGenerate;
+                            logger.info("Generated {} chunks in {}, {}% complete ({} chunks/s, {} steps queued, ETA {})",
+                                post.getChunksGeneratedThisStep(),
+                                DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
+                                percent,
+                                String.format("%.1f", task.getChunksPerSecond()),
+                                task.getQueueDepth(),
+                                task.getEstimatedTimeRemaining()
+                                    .map(eta -> DurationFormatUtils.formatDuration(eta.toMillis(), ETA_FORMAT, false))
+                                    .orElse("unknown"));
+                        } else {
+                            logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                                DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
+                                percent);
+                        }
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
                             DurationFormatUtils.formatDuration(event.getChunkPreGenerate().getTotalTime().toMillis(), TIME_FORMAT, false));
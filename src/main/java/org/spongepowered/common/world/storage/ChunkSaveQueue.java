@@ -0,0 +1,243 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Collects the chunk compounds an anvil chunk loader has to save, grouped by
+ * region file, and writes them on a pool of save threads.
+ *
+ * <p>A newer compound for a chunk that is still pending replaces the older
+ * one, so every chunk is written at most once per batch. Regions are written
+ * in parallel, but at most one batch per region is in flight at any time so
+ * that writes to a chunk can never overtake each other.</p>
+ *
+ * <p>The vanilla file IO thread keeps driving the queue through
+ * {@link #dispatch()}, which keeps {@code ThreadedFileIOBase#waitForFinish}
+ * and chunk loader flushes working as before.</p>
+ */
+public final class ChunkSaveQueue {
+
+    private static final int WRITE_ATTEMPTS = 5;
+    // How long dispatch waits for an in-flight region when it has nothing else to hand out
+    private static final long DISPATCH_WAIT_MILLIS = 10;
+
+    @Nullable private static ExecutorService executor;
+
+    private final Object lock = new Object();
+    private final Long2ObjectLinkedOpenHashMap<Map<ChunkPos, NBTTagCompound>> pending = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongSet writing = new LongOpenHashSet();
+    private final ChunkWriter writer;
+    private final BiConsumer<ChunkPos, NBTTagCompound> onWritten;
+
+    private int pendingChunks;
+    private int writingChunks;
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    /**
+     * Creates a new save queue.
+     *
+     * @param writer Writes and compresses a single chunk into its region file
+     * @param onWritten Called with every chunk compound once it was written
+     */
+    public ChunkSaveQueue(ChunkWriter writer, BiConsumer<ChunkPos, NBTTagCompound> onWritten) {
+        this.writer = writer;
+        this.onWritten = onWritten;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final int threads = Math.max(1, SpongeImpl.getGlobalConfigAdapter().getConfig().getGeneral().getFileIOThreads());
+            executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Chunk Save Thread #%d")
+                .setDaemon(true)
+                .build());
+        }
+        return executor;
+    }
+
+    /**
+     * Queues a chunk compound to be saved, replacing any compound for the
+     * same chunk that was not handed out to a save thread yet.
+     *
+     * @param pos The chunk position
+     * @param compound The chunk data
+     */
+    public void add(ChunkPos pos, NBTTagCompound compound) {
+        this.queued.incrementAndGet();
+        synchronized (this.lock) {
+            final long region = (long) (pos.x >> 5) << 32 | (pos.z >> 5) & 0xFFFFFFFFL;
+            Map<ChunkPos, NBTTagCompound> chunks = this.pending.get(region);
+            if (chunks == null) {
+                chunks = new LinkedHashMap<>();
+                this.pending.put(region, chunks);
+            }
+            if (chunks.put(pos, compound) == null) {
+                this.pendingChunks++;
+            } else {
+                this.coalesced.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Hands every pending region that is not currently being written to the
+     * save threads. If nothing could be handed out while regions are still
+     * being written, this waits a little for one of them to finish.
+     *
+     * @return False once nothing is pending or being written anymore
+     */
+    public boolean dispatch() {
+        synchronized (this.lock) {
+            boolean dispatched = false;
+            final ObjectIterator<Long2ObjectMap.Entry<Map<ChunkPos, NBTTagCompound>>> iterator = this.pending.long2ObjectEntrySet().fastIterator();
+            while (iterator.hasNext()) {
+                final Long2ObjectMap.Entry<Map<ChunkPos, NBTTagCompound>> entry = iterator.next();
+                final long region = entry.getLongKey();
+                if (!this.writing.add(region)) {
+                    continue;
+                }
+                final List<Map.Entry<ChunkPos, NBTTagCompound>> chunks = new ArrayList<>(entry.getValue().entrySet());
+                iterator.remove();
+                this.pendingChunks -= chunks.size();
+                this.writingChunks += chunks.size();
+                getExecutor().execute(() -> this.write(region, chunks));
+                dispatched = true;
+            }
+            if (this.pending.isEmpty() && this.writing.isEmpty()) {
+                return false;
+            }
+            if (!dispatched) {
+                try {
+                    this.lock.wait(DISPATCH_WAIT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+    }
+
+    private void write(long region, List<Map.Entry<ChunkPos, NBTTagCompound>> chunks) {
+        try {
+            for (final Map.Entry<ChunkPos, NBTTagCompound> chunk : chunks) {
+                final long start = System.nanoTime();
+                Exception last = null;
+                for (int attempt = 0; attempt < WRITE_ATTEMPTS; attempt++) {
+                    try {
+                        this.writer.write(chunk.getKey(), chunk.getValue());
+                        last = null;
+                        break;
+                    } catch (Exception e) {
+                        last = e;
+                    }
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                this.writeNanos.addAndGet(System.nanoTime() - start);
+                if (last != null) {
+                    this.failed.incrementAndGet();
+                    SpongeImpl.getLogger().error("Failed to save chunk " + chunk.getKey(), last);
+                } else {
+                    this.written.incrementAndGet();
+                }
+                this.onWritten.accept(chunk.getKey(), chunk.getValue());
+            }
+        } finally {
+            synchronized (this.lock) {
+                this.writing.remove(region);
+                this.writingChunks -= chunks.size();
+                this.lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of chunks that are queued or being written.
+     *
+     * @return The save backlog
+     */
+    public int getBacklog() {
+        synchronized (this.lock) {
+            return this.pendingChunks + this.writingChunks;
+        }
+    }
+
+    public long getQueued() {
+        return this.queued.get();
+    }
+
+    public long getCoalesced() {
+        return this.coalesced.get();
+    }
+
+    public long getWritten() {
+        return this.written.get();
+    }
+
+    public long getFailed() {
+        return this.failed.get();
+    }
+
+    public double getAverageWriteMillis() {
+        final long count = this.written.get() + this.failed.get();
+        return count == 0 ? 0 : this.writeNanos.get() / (count * 1_000_000D);
+    }
+
+    @FunctionalInterface
+    public interface ChunkWriter {
+
+        void write(ChunkPos pos, NBTTagCompound compound) throws Exception;
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only view of an anvil region file which is memory mapped instead of
+ * being read through a {@link java.io.RandomAccessFile} like the vanilla
+ * {@link net.minecraft.world.chunk.storage.RegionFile}.
+ *
+ * <p>The sector header is parsed directly from the mapping and chunk payloads
+ * are inflated straight out of it, using an {@link Inflater} supplied by the
+ * caller so it can be reused across chunks and region files.</p>
+ *
+ * <p>Instances are not thread safe, but separate instances may be read
+ * concurrently.</p>
+ */
+public final class MappedRegionFile {
+
+    public static final int CHUNK_COUNT = 1024;
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2; // Offsets, then timestamps
+    private static final int CHUNK_HEADER_SIZE = 5; // Payload length, then compression type
+    private static final byte COMPRESSION_GZIP = 1;
+    private static final byte COMPRESSION_ZLIB = 2;
+
+    private static final MappedRegionFile EMPTY = new MappedRegionFile(ByteBuffer.allocate(0), new int[CHUNK_COUNT]);
+
+    private final ByteBuffer data;
+    private final int[] offsets;
+
+    private MappedRegionFile(final ByteBuffer data, final int[] offsets) {
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Maps the region file at the given path.
+     *
+     * <p>Files too small to hold a sector header are treated as empty, like
+     * vanilla does for newly created regions.</p>
+     *
+     * @param path The path of the region file
+     * @return The mapped region file
+     * @throws IOException If the file could not be mapped
+     */
+    public static MappedRegionFile open(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE) {
+                return EMPTY;
+            }
+            // The mapping stays valid after the channel is closed. Region files can't exceed
+            // 256 MiB since sector offsets are 24 bit, so one mapping always covers the file.
+            final MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, Integer.MAX_VALUE));
+            final int[] offsets = new int[CHUNK_COUNT];
+            final IntBuffer header = data.asIntBuffer();
+            header.get(offsets);
+            return new MappedRegionFile(data, offsets);
+        }
+    }
+
+    /**
+     * Gets whether the header has an entry for the chunk at the given index.
+     *
+     * @param index The chunk index, {@code x + z * 32}
+     * @return True if the chunk is present
+     */
+    public boolean hasChunk(final int index) {
+        return this.offsets[index] != 0;
+    }
+
+    /**
+     * Gets the index of the next chunk present in the header, starting from
+     * and including the given index.
+     *
+     * @param fromIndex The index to start searching from
+     * @return The index of the next present chunk, or -1 if there is none
+     */
+    public int nextChunkIndex(final int fromIndex) {
+        for (int index = fromIndex; index < CHUNK_COUNT; index++) {
+            if (this.offsets[index] != 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Opens a stream over the decompressed data of the chunk at the given
+     * index.
+     *
+     * <p>The inflater is reset and used for zlib compressed chunks, the
+     * format vanilla writes. It must not be used again until the returned
+     * stream has been fully read.</p>
+     *
+     * @param index The chunk index, {@code x + z * 32}
+     * @param inflater The inflater to reuse
+     * @return The chunk data, or null if the chunk is absent or its sectors
+     *     are invalid
+     * @throws IOException If the compression type is unknown
+     */
+    @Nullable
+    public DataInputStream getChunkDataInputStream(final int index, final Inflater inflater) throws IOException {
+        final int offset = this.offsets[index];
+        if (offset == 0) {
+            return null;
+        }
+        final long start = (long) (offset >>> 8) * SECTOR_SIZE;
+        final int sectors = offset & 0xFF;
+        if (start < HEADER_SIZE || start + CHUNK_HEADER_SIZE > this.data.limit()) {
+            return null;
+        }
+        final int length = this.data.getInt((int) start);
+        if (length <= 0 || length > sectors * SECTOR_SIZE || start + Integer.BYTES + length > this.data.limit()) {
+            return null;
+        }
+        final byte compression = this.data.get((int) start + Integer.BYTES);
+        final ByteBuffer payload = this.data.duplicate();
+        payload.position((int) start + CHUNK_HEADER_SIZE);
+        payload.limit((int) start + Integer.BYTES + length);
+        final InputStream in = new ByteBufferInputStream(payload);
+        if (compression == COMPRESSION_ZLIB) {
+            inflater.reset();
+            return new DataInputStream(new InflaterInputStream(in, inflater, SECTOR_SIZE));
+        }
+        if (compression == COMPRESSION_GZIP) {
+            return new DataInputStream(new GZIPInputStream(in, SECTOR_SIZE));
+        }
+        throw new IOException("Unknown chunk compression type " + compression);
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, this.buffer.remaining());
+            this.buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final int count = (int) Math.max(0, Math.min(n, this.buffer.remaining()));
+            this.buffer.position(this.buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.persistence.NbtProjection;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
+
+/**
+ * Iterates over the chunk data stored in a list of region files, reading
+ * them through {@link MappedRegionFile}s.
+ *
+ * <p>Splitting hands off half of the remaining region files, so a parallel
+ * stream reads separate region files on separate threads. Each split keeps
+ * its own {@link Inflater}, which is reused for every chunk it reads. The
+ * inflaters are released once a split is exhausted, and those of splits a
+ * short-circuiting operation stopped early are released by {@link #close()}.</p>
+ */
+final class RegionChunkSpliterator implements Spliterator<DataContainer> {
+
+    private final List<Path> regionFiles;
+    @Nullable private final NbtProjection projection;
+    // Shared by all splits, so closing the stream can release every inflater
+    private final Queue<Inflater> inflaters;
+    private int fileIndex;
+    private final int fileFence;
+
+    @Nullable private MappedRegionFile region;
+    private int chunkIndex;
+    @Nullable private Inflater inflater;
+
+    RegionChunkSpliterator(final List<Path> regionFiles, @Nullable final NbtProjection projection) {
+        this(regionFiles, projection, new ConcurrentLinkedQueue<>(), 0, regionFiles.size());
+    }
+
+    private RegionChunkSpliterator(final List<Path> regionFiles, @Nullable final NbtProjection projection, final Queue<Inflater> inflaters,
+            final int fileIndex, final int fileFence) {
+        this.regionFiles = regionFiles;
+        this.projection = projection;
+        this.inflaters = inflaters;
+        this.fileIndex = fileIndex;
+        this.fileFence = fileFence;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super DataContainer> action) {
+        try {
+            while (this.advance(action)) {
+                // Keep reading
+            }
+        } finally {
+            this.releaseInflater();
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super DataContainer> action) {
+        boolean advanced = false;
+        try {
+            advanced = this.advance(action);
+            return advanced;
+        } finally {
+            if (!advanced) {
+                this.releaseInflater();
+            }
+        }
+    }
+
+    private boolean advance(final Consumer<? super DataContainer> action) {
+        while (true) {
+            if (this.region == null && !this.openNextRegion()) {
+                return false;
+            }
+            final int index = this.region.nextChunkIndex(this.chunkIndex);
+            if (index == -1) {
+                this.region = null;
+                continue;
+            }
+            this.chunkIndex = index + 1;
+            final DataContainer data = this.read(index);
+            if (data != null) {
+                action.accept(data);
+                return true;
+            }
+        }
+    }
+
+    @Nullable
+    private DataContainer read(final int index) {
+        if (this.inflater == null) {
+            this.inflater = new Inflater();
+            this.inflaters.add(this.inflater);
+        }
+        try {
+            final DataInputStream stream = this.region.getChunkDataInputStream(index, this.inflater);
+            return WorldStorageUtil.readDataFromRegion(stream, this.projection, index);
+        } catch (IOException | RuntimeException e) {
+            SpongeImpl.getLogger().error("Could not read chunk {} {} of region file {}, skipping it.",
+                index & 31, index >>> 5, this.regionFiles.get(this.fileIndex - 1), e);
+            return null;
+        }
+    }
+
+    private boolean openNextRegion() {
+        while (this.fileIndex < this.fileFence) {
+            final Path file = this.regionFiles.get(this.fileIndex++);
+            try {
+                this.region = MappedRegionFile.open(file);
+                this.chunkIndex = 0;
+                return true;
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not map region file {}, skipping it.", file, e);
+            }
+        }
+        return false;
+    }
+
+    private void releaseInflater() {
+        if (this.inflater != null) {
+            this.inflaters.remove(this.inflater);
+            this.inflater.end();
+            this.inflater = null;
+        }
+    }
+
+    /**
+     * Releases the inflaters of all splits that still hold one. Must only
+     * be called once no split is being read anymore.
+     */
+    void close() {
+        Inflater inflater;
+        while ((inflater = this.inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Spliterator<DataContainer> trySplit() {
+        final int remaining = this.fileFence - this.fileIndex;
+        if (remaining < 2) {
+            return null;
+        }
+        final int mid = this.fileIndex + remaining / 2;
+        final RegionChunkSpliterator prefix = new RegionChunkSpliterator(this.regionFiles, this.projection, this.inflaters, this.fileIndex, mid);
+        this.fileIndex = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        // An upper bound, every region file can hold at most 1024 chunks.
+        long size = (long) (this.fileFence - this.fileIndex) * MappedRegionFile.CHUNK_COUNT;
+        if (this.region != null) {
+            size += MappedRegionFile.CHUNK_COUNT - this.chunkIndex;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.NONNULL;
+    }
+
+}
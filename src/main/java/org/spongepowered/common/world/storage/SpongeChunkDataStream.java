@@ -25,54 +25,67 @@
 package org.spongepowered.common.world.storage;
 
 import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.world.storage.ChunkDataStream;
-import org.spongepowered.common.bridge.world.chunk.storage.RegionFileAccessor;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.persistence.NbtProjection;
 
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
 
 public class SpongeChunkDataStream implements ChunkDataStream {
 
     private static class RegionFileItr {
 
-        private final RegionFile file;
+        private final MappedRegionFile file;
         public int index;
 
-        public RegionFileItr(final RegionFile regionFile) {
+        public RegionFileItr(final MappedRegionFile regionFile) {
             this.file = regionFile;
         }
 
         public int getNext() {
-            int index = this.index;
-            final int[] offsets = ((RegionFileAccessor) this.file).accessor$getOffsets();
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
-            }
-            if (index >= offsets.length) {
-                return -1;
-            }
-            return index;
+            return this.index == -1 ? -1 : this.file.nextChunkIndex(this.index);
         }
 
-        public DataInputStream getStreamAt(final int index) {
-            final int x = index & 31;
-            final int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+        public DataInputStream getStreamAt(final int index, final Inflater inflater) throws IOException {
+            return this.file.getChunkDataInputStream(index, inflater);
         }
 
     }
 
+    // Created on demand and released once the stream is exhausted or reset
+    @Nullable private Inflater inflater;
     private final Set<Path> openedFiles = Sets.newHashSet();
     private RegionFileItr regionFileItr;
     private final Path worldDir;
+    @Nullable private final NbtProjection projection;
 
     public SpongeChunkDataStream(final Path worldDir) {
+        this(worldDir, (NbtProjection) null);
+    }
+
+    /**
+     * Creates a stream which only reads the given paths of the level
+     * compound of each chunk, see {@link WorldStorageUtil#createChunkProjection(Set)}.
+     *
+     * @param worldDir The world directory
+     * @param paths The paths to read, relative to the level compound
+     */
+    public SpongeChunkDataStream(final Path worldDir, final Set<DataQuery> paths) {
+        this(worldDir, WorldStorageUtil.createChunkProjection(paths));
+    }
+
+    private SpongeChunkDataStream(final Path worldDir, @Nullable final NbtProjection projection) {
         this.worldDir = worldDir;
+        this.projection = projection;
     }
 
     private boolean itrAvailable() {
@@ -81,10 +94,13 @@ private boolean itrAvailable() {
         }
         final Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (final Path file : files) {
-            if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
-                this.openedFiles.add(file);
-                return true;
+            if (this.openedFiles.add(file)) {
+                try {
+                    this.regionFileItr = new RegionFileItr(MappedRegionFile.open(file));
+                    return true;
+                } catch (IOException e) {
+                    SpongeImpl.getLogger().error("Could not map region file {}, skipping it.", file, e);
+                }
             }
         }
         return false;
@@ -106,12 +122,16 @@ private int getNextIndex() {
     public DataContainer next() {
         final int next = getNextIndex();
         if (next == -1) {
+            releaseInflater();
             throw new NoSuchElementException();
         }
         this.regionFileItr.index = next + 1;
-        final DataInputStream stream = this.regionFileItr.getStreamAt(next);
+        if (this.inflater == null) {
+            this.inflater = new Inflater();
+        }
         try {
-            return WorldStorageUtil.readDataFromRegion(stream);
+            // Skips data of another chunk in case the region was rewritten since its header was read
+            return WorldStorageUtil.readDataFromRegion(this.regionFileItr.getStreamAt(next, this.inflater), this.projection, next);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -119,7 +139,18 @@ public DataContainer next() {
 
     @Override
     public boolean hasNext() {
-        return getNextIndex() != -1;
+        if (getNextIndex() != -1) {
+            return true;
+        }
+        releaseInflater();
+        return false;
+    }
+
+    private void releaseInflater() {
+        if (this.inflater != null) {
+            this.inflater.end();
+            this.inflater = null;
+        }
     }
 
     @Override
@@ -143,6 +174,7 @@ public int available() {
 
     @Override
     public void reset() {
+        releaseInflater();
         this.regionFileItr = null;
         this.openedFiles.clear();
     }
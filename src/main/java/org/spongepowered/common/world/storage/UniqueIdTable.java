@@ -0,0 +1,234 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * An append-only table assigning every unique id a stable index, used to
+ * store block owners and notifiers as plain ints.
+ *
+ * <p>Ids are kept as pairs of longs in a single array and found through an
+ * open-addressed table of indices, so no {@link UUID} or boxed index is
+ * retained per entry. Lookups never lock and are safe from any thread;
+ * assigning a new index synchronizes on the table.</p>
+ *
+ * <p>The table is persisted as a flat file of big-endian long pairs in index
+ * order. Since entries never change, {@link #save(Path)} only appends what
+ * was assigned since the last save.</p>
+ */
+public final class UniqueIdTable {
+
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Pairs of most and least significant bits, entry i at 2 * i
+    private volatile long[] ids = new long[2 * INITIAL_CAPACITY];
+    // Open-addressed slots holding index + 1, 0 marks an empty slot
+    private volatile int[] slots = new int[2 * INITIAL_CAPACITY];
+    // Written last when appending, so every entry below it is visible to readers
+    private volatile int size;
+
+    private final Object saveLock = new Object();
+    private int savedSize;
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the index assigned to the given unique id.
+     *
+     * @param uuid The unique id
+     * @return The index, or -1 if none has been assigned
+     */
+    public int indexOf(final UUID uuid) {
+        return this.find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Gets the index assigned to the given unique id, assigning the next
+     * free index if there is none yet.
+     *
+     * @param uuid The unique id
+     * @return The index
+     */
+    public int getOrAssign(final UUID uuid) {
+        final long most = uuid.getMostSignificantBits();
+        final long least = uuid.getLeastSignificantBits();
+        final int index = this.find(most, least);
+        if (index != -1) {
+            return index;
+        }
+        synchronized (this) {
+            // Entries appended since the lookup above are visible now
+            final int existing = this.find(most, least);
+            return existing != -1 ? existing : this.append(most, least);
+        }
+    }
+
+    @Nullable
+    public UUID get(final int index) {
+        if (index < 0 || index >= this.size) {
+            return null;
+        }
+        final long[] ids = this.ids;
+        return new UUID(ids[2 * index], ids[2 * index + 1]);
+    }
+
+    private int find(final long most, final long least) {
+        final int size = this.size;
+        final long[] ids = this.ids;
+        final int[] slots = this.slots;
+        final int mask = slots.length - 1;
+        for (int slot = hash(most, least) & mask; ; slot = slot + 1 & mask) {
+            final int index = slots[slot] - 1;
+            if (index == -1) {
+                return -1;
+            }
+            // Slots can be filled before the entry they point at is published
+            if (index < size && ids[2 * index] == most && ids[2 * index + 1] == least) {
+                return index;
+            }
+        }
+    }
+
+    private int append(final long most, final long least) {
+        final int index = this.size;
+        long[] ids = this.ids;
+        if (2 * index == ids.length) {
+            final long[] grown = new long[ids.length * 2];
+            System.arraycopy(ids, 0, grown, 0, ids.length);
+            this.ids = ids = grown;
+        }
+        ids[2 * index] = most;
+        ids[2 * index + 1] = least;
+        // Keep the slot table at most half full
+        if (2 * (index + 1) > this.slots.length) {
+            this.rehash(this.slots.length * 2, index);
+        }
+        insert(this.slots, hash(most, least), index);
+        this.size = index + 1;
+        return index;
+    }
+
+    private void rehash(final int capacity, final int size) {
+        final int[] slots = new int[capacity];
+        final long[] ids = this.ids;
+        for (int i = 0; i < size; i++) {
+            insert(slots, hash(ids[2 * i], ids[2 * i + 1]), i);
+        }
+        this.slots = slots;
+    }
+
+    private static void insert(final int[] slots, final int hash, final int index) {
+        final int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = slot + 1 & mask;
+        }
+        slots[slot] = index + 1;
+    }
+
+    private static int hash(final long most, final long least) {
+        final long h = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+
+    /**
+     * Reads the entries stored in the given file into this table, which is
+     * expected to be empty. A torn entry at the end of the file is ignored.
+     *
+     * @param file The table file
+     * @throws IOException If the file could not be read
+     */
+    public void load(final Path file) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        synchronized (this) {
+            while (buffer.remaining() >= ENTRY_BYTES) {
+                final long most = buffer.getLong();
+                final long least = buffer.getLong();
+                if (this.find(most, least) == -1) {
+                    this.append(most, least);
+                }
+            }
+        }
+        synchronized (this.saveLock) {
+            this.savedSize = buffer.position() / ENTRY_BYTES;
+        }
+    }
+
+    /**
+     * Gets whether every assigned index has been written by
+     * {@link #save(Path)}.
+     *
+     * @return True if the table file is up to date
+     */
+    public boolean isSaved() {
+        synchronized (this.saveLock) {
+            return this.savedSize == this.size;
+        }
+    }
+
+    /**
+     * Writes the entries assigned since the last save or load to the end of
+     * the given file.
+     *
+     * @param file The table file
+     * @throws IOException If the entries could not be written
+     */
+    public void save(final Path file) throws IOException {
+        synchronized (this.saveLock) {
+            final int size = this.size;
+            if (this.savedSize == size) {
+                return;
+            }
+            final long[] ids = this.ids;
+            final ByteBuffer buffer = ByteBuffer.allocate((size - this.savedSize) * ENTRY_BYTES);
+            for (int i = this.savedSize; i < size; i++) {
+                buffer.putLong(ids[2 * i]).putLong(ids[2 * i + 1]);
+            }
+            buffer.flip();
+            try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Overwrite from the last complete entry, dropping anything a failed save left behind
+                long position = (long) this.savedSize * ENTRY_BYTES;
+                channel.truncate(position);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                channel.force(false);
+            }
+            this.savedSize = size;
+        }
+    }
+}
@@ -33,9 +33,11 @@
 import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.data.persistence.NbtProjection;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.mixin.core.world.chunk.storage.RegionFileCacheAccessor;
 import org.spongepowered.common.util.Constants;
@@ -47,13 +49,24 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
 
 public class WorldStorageUtil {
 
+    private static final DataQuery CHUNK_SECTIONS = DataQuery.of(Constants.Chunk.CHUNK_DATA_LEVEL, Constants.Chunk.CHUNK_DATA_SECTIONS);
+    private static final DataQuery CHUNK_X_POS = DataQuery.of(Constants.Chunk.CHUNK_DATA_LEVEL, Constants.Chunk.CHUNK_DATA_X_POS);
+    private static final DataQuery CHUNK_Z_POS = DataQuery.of(Constants.Chunk.CHUNK_DATA_LEVEL, Constants.Chunk.CHUNK_DATA_Z_POS);
+
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         return doesChunkExist(world, chunkLoader, chunkCoords, SpongeImpl.getScheduler()::submitAsyncTask);
     }
@@ -73,6 +86,21 @@ public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChun
     }
 
     public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
+        return getChunkData(world, chunkLoader, chunkCoords, null);
+    }
+
+    /**
+     * Reads the data of a stored chunk, keeping only the given paths of its
+     * level compound. See {@link #createChunkProjection(Set)}.
+     *
+     * @param world The world
+     * @param chunkLoader The chunk loader of the world
+     * @param chunkCoords The chunk coordinates
+     * @param projection The projection to read, or null to read everything
+     * @return The chunk data, if the chunk exists
+     */
+    public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords,
+            @Nullable NbtProjection projection) {
         int x = chunkCoords.getX();
         int y = chunkCoords.getY();
         int z = chunkCoords.getZ();
@@ -82,15 +110,75 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         File worldDir = ((AnvilChunkLoaderBridge) chunkLoader).bridge$getWorldDir().toFile();
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
             DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
-            return Optional.ofNullable(readDataFromRegion(stream));
+            return Optional.ofNullable(readDataFromRegion(stream, projection));
         });
     }
 
     public static DataContainer readDataFromRegion(DataInputStream stream) throws IOException {
+        return readDataFromRegion(stream, null);
+    }
+
+    /**
+     * Creates a projection which only reads the given paths of the level
+     * compound of stored chunks, the same compound the chunk data containers
+     * are created from. Everything else, including the block sections unless
+     * requested, is skipped without being materialized. The chunk
+     * coordinates are always read, they are needed to verify chunks read
+     * from region files.
+     *
+     * @param paths The paths, relative to the level compound
+     * @return The projection
+     */
+    public static NbtProjection createChunkProjection(Set<DataQuery> paths) {
+        final DataQuery level = DataQuery.of(Constants.Chunk.CHUNK_DATA_LEVEL);
+        final Set<DataQuery> levelPaths = paths.stream().map(level::then).collect(Collectors.toCollection(HashSet::new));
+        levelPaths.add(CHUNK_X_POS);
+        levelPaths.add(CHUNK_Z_POS);
+        // The sections are only needed to tell whether the chunk is valid.
+        return new NbtProjection(levelPaths, Collections.singleton(CHUNK_SECTIONS));
+    }
+
+    public static DataContainer readDataFromRegion(DataInputStream stream, @Nullable NbtProjection projection) throws IOException {
+        NBTTagCompound level = readLevelFromRegion(stream, projection);
+        return level == null ? null : NbtTranslator.getInstance().translateFrom(level);
+    }
+
+    /**
+     * Reads the data of the chunk stored at the given index of a region
+     * file, discarding it if its coordinates belong to another index. The
+     * region files of a live world may be rewritten while they are read,
+     * after which the sectors a header entry points to can hold another chunk.
+     *
+     * <p>The projection has to be created by
+     * {@link #createChunkProjection(Set)}, which keeps the coordinates.</p>
+     *
+     * @param stream The chunk data stream
+     * @param projection The projection to read, or null to read everything
+     * @param regionIndex The index of the chunk in its region, {@code x + z * 32}
+     * @return The chunk data, or null if it is invalid or belongs to another chunk
+     * @throws IOException If the data could not be read
+     */
+    @Nullable
+    static DataContainer readDataFromRegion(DataInputStream stream, @Nullable NbtProjection projection, int regionIndex)
+            throws IOException {
+        NBTTagCompound level = readLevelFromRegion(stream, projection);
+        if (level == null) {
+            return null;
+        }
+        int x = level.getInteger(Constants.Chunk.CHUNK_DATA_X_POS);
+        int z = level.getInteger(Constants.Chunk.CHUNK_DATA_Z_POS);
+        if ((x & 31) + (z & 31) * 32 != regionIndex) {
+            return null;
+        }
+        return NbtTranslator.getInstance().translateFrom(level);
+    }
+
+    @Nullable
+    private static NBTTagCompound readLevelFromRegion(DataInputStream stream, @Nullable NbtProjection projection) throws IOException {
         if (stream == null) {
             return null;
         }
-        NBTTagCompound data = CompressedStreamTools.read(stream);
+        NBTTagCompound data = projection == null ? CompressedStreamTools.read(stream) : projection.read(stream);
 
         // Checks are based on AnvilChunkLoader#checkedReadChunkFromNBT
 
@@ -101,7 +189,10 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (!level.hasKey(Constants.Chunk.CHUNK_DATA_SECTIONS, Constants.NBT.TAG_LIST)) {
             return null;
         }
-        return NbtTranslator.getInstance().translateFrom(level);
+        if (projection != null && !projection.isIncluded(CHUNK_SECTIONS)) {
+            level.removeTag(Constants.Chunk.CHUNK_DATA_SECTIONS);
+        }
+        return level;
     }
 
     public static Iterable<Path> listRegionFiles(Path worldDir) {
@@ -112,6 +203,42 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
         }
     }
 
+    /**
+     * Streams the data of every chunk stored in the region files of the given
+     * world directory, reading them through memory mapped
+     * {@link MappedRegionFile}s rather than the region file cache.
+     *
+     * <p>Parallel streams read separate region files on separate threads.
+     * Chunks whose sectors were reused by another chunk since the region
+     * header was read are skipped.</p>
+     *
+     * @param worldDir The world directory
+     * @param parallel Whether the stream should be parallel
+     * @return The chunk data stream
+     */
+    public static Stream<DataContainer> streamChunkData(Path worldDir, boolean parallel) {
+        return streamChunkData(worldDir, null, parallel);
+    }
+
+    /**
+     * Streams the data of every chunk stored in the region files of the given
+     * world directory, keeping only the given paths of the level compound.
+     * See {@link #createChunkProjection(Set)}.
+     *
+     * @param worldDir The world directory
+     * @param paths The paths to read, relative to the level compound
+     * @param parallel Whether the stream should be parallel
+     * @return The chunk data stream
+     */
+    public static Stream<DataContainer> streamChunkData(Path worldDir, Set<DataQuery> paths, boolean parallel) {
+        return streamChunkData(worldDir, createChunkProjection(paths), parallel);
+    }
+
+    private static Stream<DataContainer> streamChunkData(Path worldDir, @Nullable NbtProjection projection, boolean parallel) {
+        final RegionChunkSpliterator spliterator = new RegionChunkSpliterator(Lists.newArrayList(listRegionFiles(worldDir)), projection);
+        return StreamSupport.stream(spliterator, parallel).onClose(spliterator::close);
+    }
+
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
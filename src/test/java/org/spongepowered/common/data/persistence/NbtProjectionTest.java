@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.common.util.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+public class NbtProjectionTest {
+
+    @Test
+    public void testProjectPaths() throws IOException {
+        final NbtProjection projection = new NbtProjection(ImmutableSet.of(
+                DataQuery.of("Level", "TileEntities"),
+                DataQuery.of("Level", "InhabitedTime"),
+                DataQuery.of("Level", "Missing")));
+
+        final NBTTagCompound result = projection.read(write(createChunk()));
+
+        Assert.assertEquals(1, result.getKeySet().size());
+        final NBTTagCompound level = result.getCompoundTag("Level");
+        Assert.assertEquals(ImmutableSet.of("TileEntities", "InhabitedTime"), level.getKeySet());
+        Assert.assertEquals(1234L, level.getLong("InhabitedTime"));
+        final NBTTagList tileEntities = level.getTagList("TileEntities", Constants.NBT.TAG_COMPOUND);
+        Assert.assertEquals(2, tileEntities.tagCount());
+        Assert.assertEquals("minecraft:chest", tileEntities.getCompoundTagAt(1).getString("id"));
+    }
+
+    @Test
+    public void testMarkersKeepOnlyKeyAndType() throws IOException {
+        final NbtProjection projection = new NbtProjection(Collections.emptySet(), ImmutableSet.of(DataQuery.of("Level", "Sections")));
+
+        final NBTTagCompound level = projection.read(write(createChunk())).getCompoundTag("Level");
+
+        Assert.assertEquals(Collections.singleton("Sections"), level.getKeySet());
+        Assert.assertTrue(level.hasKey("Sections", Constants.NBT.TAG_LIST));
+        Assert.assertTrue(level.getTagList("Sections", Constants.NBT.TAG_COMPOUND).isEmpty());
+    }
+
+    @Test
+    public void testIncludedPathWinsOverMarker() throws IOException {
+        final DataQuery sections = DataQuery.of("Level", "Sections");
+        final NbtProjection projection = new NbtProjection(Collections.singleton(DataQuery.of("Level")), Collections.singleton(sections));
+
+        Assert.assertTrue(projection.isIncluded(sections));
+        Assert.assertEquals(createChunk(), projection.read(write(createChunk())));
+    }
+
+    private static NBTTagCompound createChunk() {
+        final NBTTagCompound level = new NBTTagCompound();
+        level.setInteger("xPos", 3);
+        level.setLong("InhabitedTime", 1234L);
+        final NBTTagList sections = new NBTTagList();
+        for (int y = 0; y < 4; y++) {
+            final NBTTagCompound section = new NBTTagCompound();
+            section.setByte("Y", (byte) y);
+            section.setByteArray("Blocks", new byte[4096]);
+            section.setTag("Data", new NBTTagList());
+            sections.appendTag(section);
+        }
+        level.setTag("Sections", sections);
+        level.setIntArray("HeightMap", new int[256]);
+        final NBTTagList tileEntities = new NBTTagList();
+        for (final String id : new String[] {"minecraft:furnace", "minecraft:chest"}) {
+            final NBTTagCompound tileEntity = new NBTTagCompound();
+            tileEntity.setString("id", id);
+            tileEntities.appendTag(tileEntity);
+        }
+        level.setTag("TileEntities", tileEntities);
+        final NBTTagCompound root = new NBTTagCompound();
+        root.setTag("Level", level);
+        root.setInteger("DataVersion", 1343);
+        return root;
+    }
+
+    private static DataInputStream write(final NBTTagCompound compound) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompressedStreamTools.write(compound, new DataOutputStream(bytes));
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+}
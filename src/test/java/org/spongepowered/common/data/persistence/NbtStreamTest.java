@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.util.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+public class NbtStreamTest {
+
+    private static DataContainer createContainer() {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        container.set(DataQuery.of("name"), "foo");
+        container.set(DataQuery.of("enabled"), true);
+        container.set(DataQuery.of("values"), ImmutableList.of(1, 2, 3));
+        container.set(DataQuery.of("nested", "count"), 4L);
+        container.set(DataQuery.of("nested", "data"), new byte[] {1, 2});
+        return container;
+    }
+
+    private static byte[] write(final DataView view) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NbtStreamWriter writer = new NbtStreamWriter(Channels.newChannel(out))) {
+            writer.writeView("", view);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testWriteMatchesTranslator() throws IOException {
+        final DataContainer container = createContainer();
+        final NBTTagCompound read = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(write(container))));
+        Assert.assertEquals(NbtTranslator.getInstance().translateData(container), read);
+    }
+
+    @Test
+    public void testReadTokens() throws IOException {
+        final NbtStreamReader reader = new NbtStreamReader(new DataInputStream(new ByteArrayInputStream(write(createContainer()))));
+        Assert.assertEquals(NbtStreamReader.Token.BEGIN_COMPOUND, reader.next());
+        Assert.assertEquals("", reader.getName());
+        int values = 0;
+        NbtStreamReader.Token token;
+        while ((token = reader.next()) != NbtStreamReader.Token.END_DOCUMENT) {
+            if (token == NbtStreamReader.Token.BEGIN_COMPOUND) {
+                Assert.assertEquals("nested", reader.getName());
+                reader.skip();
+            } else if (token == NbtStreamReader.Token.BEGIN_LIST) {
+                Assert.assertEquals("values", reader.getName());
+                Assert.assertEquals(Constants.NBT.TAG_INT, reader.getListElementType());
+                Assert.assertEquals(3, reader.getListSize());
+            } else if (token == NbtStreamReader.Token.VALUE) {
+                values++;
+                if ("name".equals(reader.getName())) {
+                    Assert.assertEquals("foo", reader.getValue());
+                }
+            }
+        }
+        // name, the boolean byte and three list elements
+        Assert.assertEquals(5, values);
+        Assert.assertEquals(0, reader.getDepth());
+    }
+}
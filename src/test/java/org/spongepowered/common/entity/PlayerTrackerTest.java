@@ -0,0 +1,56 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+public class PlayerTrackerTest {
+
+    @Test
+    public void testPackRoundTrips() {
+        final int[] indices = {-1, 0, 1, 42, 0xFFFF, Integer.MAX_VALUE};
+        for (final int owner : indices) {
+            for (final int notifier : indices) {
+                final long packed = PlayerTracker.pack(owner, notifier);
+                assertEquals(owner, PlayerTracker.ownerIndex(packed));
+                assertEquals(notifier, PlayerTracker.notifierIndex(packed));
+                assertNotEquals(PlayerTracker.ABSENT, packed);
+            }
+        }
+    }
+
+    @Test
+    public void testPackByType() {
+        final long owner = PlayerTracker.pack(7, PlayerTracker.Type.OWNER);
+        assertEquals(7, PlayerTracker.ownerIndex(owner));
+        assertEquals(-1, PlayerTracker.notifierIndex(owner));
+        final long notifier = PlayerTracker.pack(7, PlayerTracker.Type.NOTIFIER);
+        assertEquals(-1, PlayerTracker.ownerIndex(notifier));
+        assertEquals(7, PlayerTracker.notifierIndex(notifier));
+    }
+}
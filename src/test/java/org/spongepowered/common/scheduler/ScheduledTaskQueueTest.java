@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class ScheduledTaskQueueTest {
+
+    private static ScheduledTask createTask(long delay) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS, task -> {}, "test", delay, false, 0L, false, null);
+    }
+
+    @Test
+    public void testPollsInDeadlineOrder() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final List<Long> delays = new ArrayList<>();
+        final Random random = new Random(42L);
+        for (int i = 0; i < 500; i++) {
+            final long delay = random.nextInt(10000);
+            delays.add(delay);
+            queue.add(createTask(delay));
+        }
+        Collections.sort(delays);
+        assertEquals(delays.get(0).longValue(), queue.peekDeadline());
+
+        for (long delay : delays) {
+            final ScheduledTask task = queue.pollExpired(Long.MAX_VALUE - 1);
+            assertEquals(delay, task.queueDeadline);
+            assertNull(task.queue);
+        }
+        assertEquals(0, queue.size());
+        assertEquals(Long.MAX_VALUE, queue.peekDeadline());
+    }
+
+    @Test
+    public void testOnlyExpiredTasksArePolled() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final ScheduledTask early = createTask(10L);
+        queue.add(early);
+        queue.add(createTask(20L));
+
+        assertNull(queue.pollExpired(5L));
+        assertSame(early, queue.pollExpired(15L));
+        assertNull(queue.pollExpired(15L));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final List<ScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ScheduledTask task = createTask(i);
+            tasks.add(task);
+            queue.add(task);
+        }
+        // Remove every other task, including the head
+        for (int i = 0; i < tasks.size(); i += 2) {
+            assertTrue(queue.remove(tasks.get(i)));
+            assertFalse(queue.remove(tasks.get(i)));
+        }
+        assertEquals(50, queue.size());
+        for (int i = 1; i < tasks.size(); i += 2) {
+            assertSame(tasks.get(i), queue.pollExpired(Long.MAX_VALUE - 1));
+        }
+        assertNull(queue.pollExpired(Long.MAX_VALUE - 1));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ConcurrentShortBitSetTest {
+
+    @Test
+    public void testAddRemoveContains() {
+        final ConcurrentShortBitSet set = new ConcurrentShortBitSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add((short) 5));
+        assertFalse(set.add((short) 5));
+        assertTrue(set.contains((short) 5));
+        assertFalse(set.contains((short) 6));
+        assertTrue(set.remove((short) 5));
+        assertFalse(set.remove((short) 5));
+        assertFalse(set.contains((short) 5));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testFullRange() {
+        final ConcurrentShortBitSet set = new ConcurrentShortBitSet();
+        for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i += 3) {
+            assertTrue(set.add((short) i));
+        }
+        for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i++) {
+            assertEquals((i - Short.MIN_VALUE) % 3 == 0, set.contains((short) i));
+        }
+        assertEquals(21846, set.size());
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final ConcurrentShortBitSet set = new ConcurrentShortBitSet();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 65536; i++) {
+                    set.add((short) i);
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(65536, set.size());
+    }
+
+}
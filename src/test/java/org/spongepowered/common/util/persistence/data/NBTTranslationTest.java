@@ -25,6 +25,8 @@
 package org.spongepowered.common.util.persistence.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import net.minecraft.nbt.NBTTagCompound;
@@ -63,4 +65,38 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testLazyTranslation() {
+        final NBTTagCompound nested = new NBTTagCompound();
+        nested.setInteger("count", 4);
+        nested.setBoolean("flag" + NbtTranslator.BOOLEAN_IDENTIFIER, true);
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("name", "foo");
+        compound.setTag("nested", nested);
+
+        final DataView lazy = NbtTranslator.getInstance().translateLazily(compound);
+        assertTrue(lazy.contains(DataQuery.of("nested")));
+        assertEquals(Optional.of(4), lazy.getInt(DataQuery.of("nested", "count")));
+        assertEquals(Optional.of(true), lazy.getBoolean(DataQuery.of("nested", "flag")));
+        assertEquals(Optional.of("foo"), lazy.getString(DataQuery.of("name")));
+    }
+
+    @Test
+    public void testLazyRoundTrip() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("name", "foo");
+        compound.setLong("id", 42L);
+
+        final DataView untouched = NbtTranslator.getInstance().translateLazily(compound);
+        assertEquals(compound, NbtTranslator.getInstance().translateData(untouched));
+
+        final DataView changed = NbtTranslator.getInstance().translateLazily(compound);
+        changed.set(DataQuery.of("name"), "bar");
+        changed.remove(DataQuery.of("id"));
+        final NBTTagCompound result = NbtTranslator.getInstance().translateData(changed);
+        assertEquals("bar", result.getString("name"));
+        assertFalse(result.hasKey("id"));
+        assertEquals("foo", compound.getString("name"));
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ChunkUnloadQueueTest {
+
+    @Test
+    public void testOfferIgnoresQueuedKeys() {
+        final ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        assertTrue(queue.offer(1L, 100L));
+        assertFalse(queue.offer(1L, 50L));
+        assertEquals(1, queue.size());
+        assertFalse(queue.hasDue(99L));
+        assertTrue(queue.hasDue(100L));
+        assertEquals(1L, queue.poll());
+        assertFalse(queue.contains(1L));
+        assertTrue(queue.offer(1L, 50L));
+    }
+
+    @Test
+    public void testPollsInDeadlineOrder() {
+        final ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        final Random random = new Random(42);
+        for (long key = 0; key < 1000; key++) {
+            queue.offer(key, random.nextInt(10000));
+        }
+        final long[] deadlines = new long[1000];
+        final Random replay = new Random(42);
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = replay.nextInt(10000);
+        }
+        long previous = Long.MIN_VALUE;
+        while (queue.size() > 0) {
+            final long key = queue.poll();
+            assertTrue(deadlines[(int) key] >= previous);
+            previous = deadlines[(int) key];
+        }
+        assertFalse(queue.hasDue(Long.MAX_VALUE));
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+public class MappedRegionFileTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadChunks() throws IOException {
+        final Path path = this.folder.newFile("r.0.0.mca").toPath();
+        Files.write(path, createRegion(new int[] {3, 100, 1023}));
+
+        final MappedRegionFile region = MappedRegionFile.open(path);
+        Assert.assertFalse(region.hasChunk(0));
+        Assert.assertTrue(region.hasChunk(3));
+        Assert.assertEquals(3, region.nextChunkIndex(0));
+        Assert.assertEquals(100, region.nextChunkIndex(4));
+        Assert.assertEquals(1023, region.nextChunkIndex(101));
+        Assert.assertEquals(-1, region.nextChunkIndex(1024));
+
+        // The same inflater is reused for every chunk.
+        final Inflater inflater = new Inflater();
+        for (final int index : new int[] {3, 100, 1023}) {
+            final DataInputStream stream = region.getChunkDataInputStream(index, inflater);
+            Assert.assertNotNull(stream);
+            Assert.assertEquals(index, CompressedStreamTools.read(stream).getInteger("Index"));
+        }
+        Assert.assertNull(region.getChunkDataInputStream(4, inflater));
+        inflater.end();
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        final Path path = this.folder.newFile("r.0.1.mca").toPath();
+        final MappedRegionFile region = MappedRegionFile.open(path);
+        Assert.assertEquals(-1, region.nextChunkIndex(0));
+    }
+
+    @Test
+    public void testInvalidSectorsAreSkipped() throws IOException {
+        final Path path = this.folder.newFile("r.1.0.mca").toPath();
+        final byte[] bytes = createRegion(new int[] {7});
+        // Point the chunk past the end of the file.
+        ByteBuffer.wrap(bytes).putInt(7 * Integer.BYTES, (1000 << 8) | 1);
+        Files.write(path, bytes);
+
+        final MappedRegionFile region = MappedRegionFile.open(path);
+        Assert.assertTrue(region.hasChunk(7));
+        Assert.assertNull(region.getChunkDataInputStream(7, new Inflater()));
+    }
+
+    private static byte[] createRegion(final int[] indices) throws IOException {
+        final ByteArrayOutputStream sectors = new ByteArrayOutputStream();
+        final ByteBuffer header = ByteBuffer.allocate(8192);
+        int sector = 2;
+        for (final int index : indices) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setInteger("Index", index);
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(compressed))) {
+                CompressedStreamTools.write(compound, out);
+            }
+            final byte[] payload = compressed.toByteArray();
+            final int sectorCount = (payload.length + 5 + 4095) / 4096;
+            final ByteBuffer chunk = ByteBuffer.allocate(sectorCount * 4096);
+            chunk.putInt(payload.length + 1).put((byte) 2).put(payload);
+            sectors.write(chunk.array());
+            header.putInt(index * Integer.BYTES, (sector << 8) | sectorCount);
+            sector += sectorCount;
+        }
+        final ByteArrayOutputStream region = new ByteArrayOutputStream();
+        region.write(header.array());
+        region.write(sectors.toByteArray());
+        return region.toByteArray();
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class UniqueIdTableTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testAssignsSequentialIndices() {
+        final UniqueIdTable table = new UniqueIdTable();
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final UUID uuid = UUID.randomUUID();
+            ids.add(uuid);
+            Assert.assertEquals(i, table.getOrAssign(uuid));
+        }
+        Assert.assertEquals(1000, table.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Assert.assertEquals(i, table.getOrAssign(ids.get(i)));
+            Assert.assertEquals(i, table.indexOf(ids.get(i)));
+            Assert.assertEquals(ids.get(i), table.get(i));
+        }
+        Assert.assertEquals(-1, table.indexOf(UUID.randomUUID()));
+        Assert.assertNull(table.get(1000));
+        Assert.assertNull(table.get(-1));
+    }
+
+    @Test
+    public void testSavesIncrementally() throws IOException {
+        final Path path = this.folder.getRoot().toPath().resolve("uuids.dat");
+        final UniqueIdTable table = new UniqueIdTable();
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        table.getOrAssign(first);
+        Assert.assertFalse(table.isSaved());
+        table.save(path);
+        Assert.assertTrue(table.isSaved());
+        Assert.assertEquals(16, Files.size(path));
+
+        table.getOrAssign(second);
+        table.save(path);
+        Assert.assertEquals(32, Files.size(path));
+
+        final UniqueIdTable loaded = new UniqueIdTable();
+        loaded.load(path);
+        Assert.assertTrue(loaded.isSaved());
+        Assert.assertEquals(0, loaded.indexOf(first));
+        Assert.assertEquals(1, loaded.indexOf(second));
+    }
+
+    @Test
+    public void testIgnoresTornEntry() throws IOException {
+        final Path path = this.folder.getRoot().toPath().resolve("uuids.dat");
+        final UniqueIdTable table = new UniqueIdTable();
+        final UUID uuid = UUID.randomUUID();
+        table.getOrAssign(uuid);
+        table.save(path);
+        Files.write(path, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+        final UniqueIdTable loaded = new UniqueIdTable();
+        loaded.load(path);
+        Assert.assertEquals(1, loaded.size());
+        final UUID next = UUID.randomUUID();
+        Assert.assertEquals(1, loaded.getOrAssign(next));
+        loaded.save(path);
+        Assert.assertEquals(32, Files.size(path));
+
+        final UniqueIdTable reloaded = new UniqueIdTable();
+        reloaded.load(path);
+        Assert.assertEquals(next, reloaded.get(1));
+    }
+
+    @Test
+    public void testConcurrentReadersSeeConsistentEntries() throws Exception {
+        final int writers = 4;
+        final int readers = 4;
+        final int perWriter = 20000;
+        final UniqueIdTable table = new UniqueIdTable();
+        final UUID[][] ids = new UUID[writers][perWriter];
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < perWriter; i++) {
+                ids[w][i] = UUID.randomUUID();
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            final List<Future<?>> writerTasks = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                final UUID[] own = ids[w];
+                writerTasks.add(executor.submit(() -> {
+                    start.await();
+                    for (final UUID uuid : own) {
+                        final int index = table.getOrAssign(uuid);
+                        Assert.assertEquals(uuid, table.get(index));
+                        Assert.assertEquals(index, table.indexOf(uuid));
+                    }
+                    return null;
+                }));
+            }
+            final List<Future<?>> readerTasks = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                readerTasks.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        final int size = table.size();
+                        for (int index = 0; index < size; index++) {
+                            final UUID uuid = table.get(index);
+                            Assert.assertNotNull(uuid);
+                            Assert.assertEquals(index, table.indexOf(uuid));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> task : writerTasks) {
+                task.get(1, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            for (final Future<?> task : readerTasks) {
+                task.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(writers * perWriter, table.size());
+        for (final UUID[] own : ids) {
+            for (final UUID uuid : own) {
+                Assert.assertEquals(uuid, table.get(table.indexOf(uuid)));
+            }
+        }
+    }
+}
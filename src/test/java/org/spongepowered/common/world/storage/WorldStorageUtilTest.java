@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.common.util.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+
+public class WorldStorageUtilTest {
+
+    private static final DataQuery X_POS = DataQuery.of(Constants.Chunk.CHUNK_DATA_X_POS);
+    private static final DataQuery Z_POS = DataQuery.of(Constants.Chunk.CHUNK_DATA_Z_POS);
+    private static final DataQuery TILE_ENTITIES = DataQuery.of("TileEntities");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStreamProjectedChunks() throws IOException {
+        final Path worldDir = this.folder.getRoot().toPath();
+        Files.createDirectories(worldDir.resolve("region"));
+        // Index 5 holds a chunk that belongs to index 6, as if its sectors were reused.
+        Files.write(worldDir.resolve("region").resolve("r.0.0.mca"), createRegion(new int[] {3, 5, 100, 1023}, new int[] {3, 6, 100, 1023}));
+
+        final List<DataContainer> chunks;
+        try (Stream<DataContainer> stream = WorldStorageUtil.streamChunkData(worldDir, ImmutableSet.of(TILE_ENTITIES), false)) {
+            chunks = stream.sorted(Comparator.comparingInt(WorldStorageUtilTest::index)).collect(Collectors.toList());
+        }
+
+        Assert.assertEquals(3, chunks.size());
+        final int[] expected = {3, 100, 1023};
+        for (int i = 0; i < expected.length; i++) {
+            final DataContainer chunk = chunks.get(i);
+            Assert.assertEquals(expected[i], index(chunk));
+            Assert.assertTrue(chunk.contains(TILE_ENTITIES));
+            Assert.assertFalse(chunk.contains(DataQuery.of("Entities")));
+            Assert.assertFalse(chunk.contains(DataQuery.of(Constants.Chunk.CHUNK_DATA_SECTIONS)));
+        }
+    }
+
+    private static int index(final DataContainer chunk) {
+        return chunk.getInt(X_POS).get() + chunk.getInt(Z_POS).get() * 32;
+    }
+
+    private static byte[] createRegion(final int[] indices, final int[] chunks) throws IOException {
+        final ByteArrayOutputStream sectors = new ByteArrayOutputStream();
+        final ByteBuffer header = ByteBuffer.allocate(8192);
+        int sector = 2;
+        for (int i = 0; i < indices.length; i++) {
+            final NBTTagCompound level = new NBTTagCompound();
+            level.setInteger(Constants.Chunk.CHUNK_DATA_X_POS, chunks[i] % 32);
+            level.setInteger(Constants.Chunk.CHUNK_DATA_Z_POS, chunks[i] / 32);
+            level.setTag(Constants.Chunk.CHUNK_DATA_SECTIONS, new NBTTagList());
+            final NBTTagList tileEntities = new NBTTagList();
+            final NBTTagCompound tileEntity = new NBTTagCompound();
+            tileEntity.setString("id", "minecraft:chest");
+            tileEntities.appendTag(tileEntity);
+            level.setTag("TileEntities", tileEntities);
+            level.setTag("Entities", new NBTTagList());
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag(Constants.Chunk.CHUNK_DATA_LEVEL, level);
+
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(compressed))) {
+                CompressedStreamTools.write(compound, out);
+            }
+            final byte[] payload = compressed.toByteArray();
+            final int sectorCount = (payload.length + 5 + 4095) / 4096;
+            final ByteBuffer chunk = ByteBuffer.allocate(sectorCount * 4096);
+            chunk.putInt(payload.length + 1).put((byte) 2).put(payload);
+            sectors.write(chunk.array());
+            header.putInt(indices[i] * Integer.BYTES, (sector << 8) | sectorCount);
+            sector += sectorCount;
+        }
+        final ByteArrayOutputStream region = new ByteArrayOutputStream();
+        region.write(header.array());
+        region.write(sectors.toByteArray());
+        return region.toByteArray();
+    }
+
+}